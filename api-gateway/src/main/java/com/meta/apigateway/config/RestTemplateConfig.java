@@ -1,5 +1,7 @@
 package com.meta.apigateway.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,7 +11,8 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
     @Bean
     @LoadBalanced
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ObjectProvider<RestTemplateBuilder> restTemplateBuilder) {
+        // Boot's builder records the calls to auth-service as http.client.requests; it only exists in servlet mode
+        return restTemplateBuilder.getIfAvailable(RestTemplateBuilder::new).build();
     }
 }
@@ -1,27 +1,51 @@
 package com.meta.apigateway.config;
 
 import com.meta.apigateway.filter.AuthenticationFilter;
+import com.meta.apigateway.security.GatewayAuthenticationEntryPoint;
+import com.meta.apigateway.security.LocalJwtVerifier;
+import com.meta.apigateway.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.reactive.function.client.WebClient;
 
 
-//@Configuration
-//@EnableWebFluxSecurity
+/**
+ * Security for the reactive (WebFlux) gateway, active when
+ * {@code spring.main.web-application-type=reactive}. {@link SecurityConfigMvc} covers the servlet mode.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
 public class SecurityConfig {
 
     private final AuthenticationFilter authenticationFilter;
-    public SecurityConfig(AuthenticationFilter authenticationFilter) {
-        this.authenticationFilter = authenticationFilter;
+    private final GatewayAuthenticationEntryPoint authenticationEntryPoint;
+
+    public SecurityConfig(WebClient.Builder webClientBuilder, LocalJwtVerifier localJwtVerifier,
+                          VerifiedTokenCache tokenCache, GatewayAuthenticationEntryPoint authenticationEntryPoint,
+                          @Value("${gateway.jwt.verification:local}") String verificationMode,
+                          MeterRegistry meterRegistry) {
+        // not a bean: a WebFilter bean would also run outside the security chain
+        this.authenticationFilter = new AuthenticationFilter(webClientBuilder, localJwtVerifier, tokenCache,
+                verificationMode, meterRegistry);
+        this.authenticationEntryPoint = authenticationEntryPoint;
     }
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
         return http
                 .csrf((csrf) -> csrf.disable())
                 .httpBasic((httpBasic) -> httpBasic.disable())
+                .formLogin((formLogin) -> formLogin.disable())
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exception -> exception.authenticationEntryPoint(authenticationEntryPoint))
                 .authorizeExchange(exchanges ->
                         exchanges
                                 .pathMatchers("/auth-service/api/v1/auth/**","/api/v1/auth/**", "/ping", "/v3/api-docs/**",
@@ -32,4 +56,4 @@ public class SecurityConfig {
                 .addFilterAt(authenticationFilter, SecurityWebFiltersOrder.AUTHENTICATION)
                 .build();
     }
-}
\ No newline at end of file
+}
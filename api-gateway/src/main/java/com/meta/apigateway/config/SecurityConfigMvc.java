@@ -1,6 +1,8 @@
 package com.meta.apigateway.config;
 
 import com.meta.apigateway.filter.AuthenticationFilterMvc;
+import com.meta.apigateway.security.GatewayAuthenticationEntryPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,15 +16,23 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+/**
+ * Security for the servlet gateway, active when {@code spring.main.web-application-type=servlet}.
+ * {@link SecurityConfig} covers the reactive mode.
+ */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfigMvc {
 
     private final AuthenticationFilterMvc authenticationFilter;
+    private final GatewayAuthenticationEntryPoint authenticationEntryPoint;
 
-    public SecurityConfigMvc(AuthenticationFilterMvc authenticationFilter) {
+    public SecurityConfigMvc(AuthenticationFilterMvc authenticationFilter,
+                             GatewayAuthenticationEntryPoint authenticationEntryPoint) {
         this.authenticationFilter = authenticationFilter;
+        this.authenticationEntryPoint = authenticationEntryPoint;
     }
 
     @Bean
@@ -39,6 +49,7 @@ public class SecurityConfigMvc {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling(exception -> exception.authenticationEntryPoint(authenticationEntryPoint))
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/auth-service/api/v1/auth/**", "/api/v1/auth/**", "/ping", "/v3/api-docs/**",
                                 "/auth-service/api-docs/**", "/auth-service/v3/api-docs/**",
@@ -1,13 +1,18 @@
 package com.meta.apigateway.filter;
 
+import com.meta.apigateway.security.LocalJwtVerifier;
+import com.meta.apigateway.security.VerifiedToken;
+import com.meta.apigateway.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
-import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
@@ -16,17 +21,41 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-//@Component
+/**
+ * Non-blocking counterpart of {@link AuthenticationFilterMvc}, created by
+ * {@link com.meta.apigateway.config.SecurityConfig} for the reactive gateway. Remote parses go
+ * through {@link WebClient} and uncached tokens are verified through
+ * {@link VerifiedTokenCache#getOrVerify}, so no event-loop thread ever waits on auth-service.
+ * Verification is timed as {@code gateway.authentication}, like in the servlet filter; the route's
+ * own {@code spring.cloud.gateway.requests} timer starts after this filter.
+ */
 public class AuthenticationFilter implements WebFilter {
     public static final String HEADER = "Authorization";
     public static final String HEADER_VALUE_PREFIX = "Bearer";
     private static final String JWT_PARSE_URL = "http://auth-service/api/v1/jwt/parse";
     //private final RestTemplate restTemplate;
     private final WebClient webClient;
-    public AuthenticationFilter(WebClient.Builder webClientBuilder) {
+    private final LocalJwtVerifier localJwtVerifier;
+    private final VerifiedTokenCache tokenCache;
+    private final MeterRegistry meterRegistry;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    // "local" verifies signatures in the gateway, "remote" always asks auth-service
+    private final String verificationMode;
+
+    public AuthenticationFilter(WebClient.Builder webClientBuilder, LocalJwtVerifier localJwtVerifier,
+                                VerifiedTokenCache tokenCache, String verificationMode, MeterRegistry meterRegistry) {
         this.webClient = webClientBuilder.build();
+        this.localJwtVerifier = localJwtVerifier;
+        this.tokenCache = tokenCache;
+        this.verificationMode = verificationMode;
+        this.meterRegistry = meterRegistry;
+        this.authenticatedTimer = AuthenticationFilterMvc.authenticationTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = AuthenticationFilterMvc.authenticationTimer(meterRegistry, "rejected");
     }
 
     private Mono<Map<String, Object>> parseJwt(String token) {
@@ -39,6 +68,24 @@ public class AuthenticationFilter implements WebFilter {
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {});
     }
 
+    Mono<VerifiedToken> verify(String token) {
+        return tokenCache.getOrVerify(token, this::verifyUncached);
+    }
+
+    private Mono<VerifiedToken> verifyUncached(String token) {
+        if (AuthenticationFilterMvc.VERIFICATION_LOCAL.equalsIgnoreCase(verificationMode)) {
+            // only tokens signed with a key we do not hold go to auth-service
+            return Mono.fromCallable(() -> localJwtVerifier.verify(token))
+                    .flatMap(verified -> verified.map(Mono::just).orElseGet(() -> verifyRemotely(token)));
+        }
+        return verifyRemotely(token);
+    }
+
+    private Mono<VerifiedToken> verifyRemotely(String token) {
+        return parseJwt(token).map(responseDto -> new VerifiedToken((String) responseDto.get("username"),
+                (List<String>) responseDto.get("authorities"), null));
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
@@ -46,23 +93,34 @@ public class AuthenticationFilter implements WebFilter {
 
         String token = request.getHeaders().getFirst(HEADER);
         if (token != null) {
-            token = token.replace(HEADER_VALUE_PREFIX + " ", "");
-            return parseJwt(token).flatMap(responseDto ->
-                    {
-                        String username = (String) responseDto.get("username");
-                        List<String> authorities = (List<String>) responseDto.get("authorities");
-                        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                                username,
-                                null,
-                                authorities.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList())
-                        );
-                        SecurityContextImpl securityContext = new SecurityContextImpl(auth);
-                        return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withSecurityContext(Mono.just(securityContext)));
+            String bearerToken = token.replace(HEADER_VALUE_PREFIX + " ", "");
+            // a token that fails verification continues unauthenticated and is answered with 401 by the
+            // security chain, the same as in the servlet filter; downstream errors are not swallowed here
+            return Mono.defer(() -> {
+                        Timer.Sample sample = Timer.start(meterRegistry);
+                        return verify(bearerToken)
+                                .map(this::toSecurityContext)
+                                .map(Optional::of)
+                                .onErrorReturn(Optional.empty())
+                                .defaultIfEmpty(Optional.empty())
+                                .doOnNext(context -> sample.stop(context.isPresent() ? authenticatedTimer : rejectedTimer));
                     })
-                    .onErrorResume(e -> chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.clearContext()));
+                    .flatMap(securityContext -> securityContext
+                            .map(context -> chain.filter(exchange)
+                                    .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(Mono.just(context))))
+                            .orElseGet(() -> chain.filter(exchange)));
         }
 
         return chain.filter(exchange);
     }
+
+    private SecurityContext toSecurityContext(VerifiedToken verifiedToken) {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                verifiedToken.getUsername(),
+                null,
+                verifiedToken.getAuthorities().stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList())
+        );
+        return new SecurityContextImpl(auth);
+    }
 }
 
@@ -0,0 +1,59 @@
+package com.meta.apigateway.security;
+
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the HMAC keys the gateway accepts for locally issued tokens. The current key uses the
+ * same {@code jwt.secret} as auth-service's {@code JwtTokenProvider}; {@code jwt.previous-secrets}
+ * keeps tokens signed before a rotation valid until they expire.
+ */
+@Component
+public class JwtKeyProvider {
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyProvider.class);
+
+    @Value("${jwt.secret:}")
+    private String jwtSecret;
+
+    @Value("${jwt.previous-secrets:}")
+    private List<String> previousSecrets;
+
+    private volatile List<Key> keys = Collections.emptyList();
+
+    @PostConstruct
+    public void loadKeys() {
+        List<Key> loaded = new ArrayList<>();
+        if (StringUtils.hasText(jwtSecret)) {
+            loaded.add(toKey(jwtSecret));
+        }
+        if (previousSecrets != null) {
+            previousSecrets.stream()
+                    .filter(StringUtils::hasText)
+                    .map(String::trim)
+                    .map(JwtKeyProvider::toKey)
+                    .forEach(loaded::add);
+        }
+        keys = Collections.unmodifiableList(loaded);
+        log.info("process=load-jwt-keys, key_count={}", keys.size());
+    }
+
+    // current key first, then previous keys in configured order
+    public List<Key> getKeys() {
+        return keys;
+    }
+
+    private static Key toKey(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
@@ -0,0 +1,56 @@
+package com.meta.apigateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies signature and expiry of auth-service tokens inside the gateway, so the common case
+ * needs no call to {@code /api/v1/jwt/parse}.
+ */
+@Component
+public class LocalJwtVerifier {
+
+    private final JwtKeyProvider keyProvider;
+
+    private List<JwtParser> parsers = List.of();
+
+    public LocalJwtVerifier(JwtKeyProvider keyProvider) {
+        this.keyProvider = keyProvider;
+    }
+
+    @PostConstruct
+    public void init() {
+        // JwtParser is immutable and thread-safe, so one instance per key is enough
+        parsers = keyProvider.getKeys().stream()
+                .map(key -> Jwts.parserBuilder().setSigningKey(key).build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the verified token, or empty if none of the local keys signed it and the caller
+     * should fall back to auth-service
+     * @throws JwtException if the token is expired, malformed or otherwise definitively invalid
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        for (JwtParser parser : parsers) {
+            try {
+                Claims claims = parser.parseClaimsJws(token).getBody();
+                List<String> authorities = claims.get("authorities", List.class);
+                return Optional.of(new VerifiedToken(claims.getSubject(), authorities,
+                        claims.getExpiration() == null ? null : claims.getExpiration().toInstant()));
+            } catch (SignatureException ex) {
+                // signed with a key we do not hold, try the next one
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,36 @@
+package com.meta.apigateway.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Username and authorities extracted from a bearer token that has already been verified,
+ * either locally by {@link LocalJwtVerifier} or remotely by auth-service.
+ */
+public class VerifiedToken {
+
+    private final String username;
+
+    private final List<String> authorities;
+
+    // null when the verifier did not report an expiry (remote parse)
+    private final Instant expiresAt;
+
+    public VerifiedToken(String username, List<String> authorities, Instant expiresAt) {
+        this.username = username;
+        this.authorities = authorities == null ? List.of() : List.copyOf(authorities);
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
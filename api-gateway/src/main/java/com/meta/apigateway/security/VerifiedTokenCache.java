@@ -0,0 +1,129 @@
+package com.meta.apigateway.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of verified tokens, keyed by the SHA-256 digest of the token so raw bearer
+ * tokens are never kept in memory. Each entry lives until the token's {@code exp} claim, capped by
+ * {@code gateway.jwt.cache.max-ttl}; when the cache is full the least valuable entries are evicted.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics with
+ * {@code cache=gateway.jwt.cache}.
+ *
+ * <p>The reactive filter goes through {@link #getOrVerify}, which never blocks and lets concurrent
+ * requests carrying the same uncached token share one verification.
+ */
+@Component
+public class VerifiedTokenCache {
+    public static final String CACHE_NAME = "gateway.jwt.cache";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final AsyncCache<String, VerifiedToken> cache;
+
+    private final Duration maxTtl;
+
+    public VerifiedTokenCache(@Value("${gateway.jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${gateway.jwt.cache.max-ttl:30m}") Duration maxTtl,
+                              MeterRegistry meterRegistry) {
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    public Optional<VerifiedToken> get(String token) {
+        return Optional.ofNullable(cache.synchronous().getIfPresent(digest(token)));
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.synchronous().put(digest(token), withExpiry(token, verifiedToken));
+    }
+
+    /**
+     * Returns the cached token or subscribes to {@code verifier} once per key; failed or empty
+     * verifications are not cached.
+     */
+    public Mono<VerifiedToken> getOrVerify(String token, Function<String, Mono<VerifiedToken>> verifier) {
+        return Mono.fromFuture(() -> cache.get(digest(token), (key, executor) -> verifier.apply(token)
+                .map(verifiedToken -> withExpiry(token, verifiedToken))
+                .toFuture()));
+    }
+
+    public long size() {
+        cache.synchronous().cleanUp();
+        return cache.synchronous().estimatedSize();
+    }
+
+    private static VerifiedToken withExpiry(String token, VerifiedToken verifiedToken) {
+        if (verifiedToken.getExpiresAt() != null) {
+            return verifiedToken;
+        }
+        // the remote parse does not return exp; the token was just verified so its payload can be trusted
+        return new VerifiedToken(verifiedToken.getUsername(), verifiedToken.getAuthorities(), readExpiry(token));
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Instant readExpiry(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            JsonNode exp = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return exp == null || !exp.canConvertToLong() ? null : Instant.ofEpochSecond(exp.asLong());
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    private class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration ttl = maxTtl;
+            if (value.getExpiresAt() != null) {
+                Duration untilExpiry = Duration.between(Instant.now(), value.getExpiresAt());
+                ttl = untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+            }
+            return Math.max(0, ttl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.meta.apigateway.filter;
+
+import com.meta.apigateway.security.JwtKeyProvider;
+import com.meta.apigateway.security.LocalJwtVerifier;
+import com.meta.apigateway.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class AuthenticationFilterMvcTest {
+    private static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+    private static final String PREVIOUS_SECRET = "0a1b2c3d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718293a4b5c6d7e8f9";
+    private static final String UNKNOWN_SECRET = "ffeeddccbbaa99887766554433221100ffeeddccbbaa99887766554433221100";
+
+    private MockRestServiceServer authService;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationFilterMvc filter;
+
+    @BeforeEach
+    public void init() {
+        RestTemplate restTemplate = new RestTemplate();
+        authService = MockRestServiceServer.bindTo(restTemplate).build();
+
+        JwtKeyProvider keyProvider = new JwtKeyProvider();
+        ReflectionTestUtils.setField(keyProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(keyProvider, "previousSecrets", List.of(PREVIOUS_SECRET));
+        keyProvider.loadKeys();
+        LocalJwtVerifier verifier = new LocalJwtVerifier(keyProvider);
+        verifier.init();
+
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache(100, Duration.ofMinutes(30), new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+
+        filter = new AuthenticationFilterMvc(restTemplate, verifier, tokenCache, meterRegistry);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testLocalModeVerifiesWithoutCallingAuthService() throws Exception {
+        Authentication auth = doFilter(token(SECRET, 60_000));
+
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("admin");
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        authService.verify();
+    }
+
+    @Test
+    public void testLocalModeAcceptsRotatedKey() throws Exception {
+        Authentication auth = doFilter(token(PREVIOUS_SECRET, 60_000));
+
+        assertThat(auth).isNotNull();
+        authService.verify();
+    }
+
+    @Test
+    public void testLocalModeFallsBackToAuthServiceForUnknownKey() throws Exception {
+        authService.expect(requestTo("http://auth-service/api/v1/jwt/parse"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"username\":\"hng\",\"authorities\":[\"ROLE_USER\"]}",
+                        MediaType.APPLICATION_JSON));
+
+        Authentication auth = doFilter(token(UNKNOWN_SECRET, 60_000));
+
+        assertThat(auth.getName()).isEqualTo("hng");
+        authService.verify();
+    }
+
+    @Test
+    public void testLocalModeRejectsExpiredTokenWithoutFallback() throws Exception {
+        Authentication auth = doFilter(token(SECRET, -60_000));
+
+        assertThat(auth).isNull();
+        authService.verify();
+    }
+
+    @Test
+    public void testRemoteModeAlwaysCallsAuthService() throws Exception {
+        ReflectionTestUtils.setField(filter, "verificationMode", "remote");
+        authService.expect(requestTo("http://auth-service/api/v1/jwt/parse"))
+                .andRespond(withSuccess("{\"username\":\"admin\",\"authorities\":[\"ROLE_ADMIN\"]}",
+                        MediaType.APPLICATION_JSON));
+
+        Authentication auth = doFilter(token(SECRET, 60_000));
+
+        assertThat(auth.getName()).isEqualTo("admin");
+        authService.verify();
+    }
+
+    @Test
+    public void testRepeatedTokenIsServedFromCache() throws Exception {
+        ReflectionTestUtils.setField(filter, "verificationMode", "remote");
+        authService.expect(requestTo("http://auth-service/api/v1/jwt/parse"))
+                .andRespond(withSuccess("{\"username\":\"admin\",\"authorities\":[\"ROLE_ADMIN\"]}",
+                        MediaType.APPLICATION_JSON));
+        String token = token(SECRET, 60_000);
+
+        doFilter(token);
+        SecurityContextHolder.clearContext();
+        Authentication auth = doFilter(token);
+
+        assertThat(auth.getName()).isEqualTo("admin");
+        authService.verify();
+    }
+
+    @Test
+    public void testVerificationIsTimedByResult() throws Exception {
+        doFilter(token(SECRET, 60_000));
+        SecurityContextHolder.clearContext();
+        doFilter(token(SECRET, -60_000));
+        doFilter(token(SECRET, -30_000));
+
+        assertThat(meterRegistry.get(AuthenticationFilterMvc.AUTHENTICATION_TIMER).tag("result", "authenticated")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(AuthenticationFilterMvc.AUTHENTICATION_TIMER).tag("result", "rejected")
+                .timer().count()).isEqualTo(2);
+    }
+
+    private Authentication doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books");
+        request.addHeader(AuthenticationFilterMvc.HEADER, AuthenticationFilterMvc.HEADER_VALUE_PREFIX + " " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    static String token(String secret, long expiresInMillis) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("admin")
+                .claim("authorities", List.of("ROLE_ADMIN"))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expiresInMillis))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .compact();
+    }
+}
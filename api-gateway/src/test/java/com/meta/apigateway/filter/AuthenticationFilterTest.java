@@ -0,0 +1,120 @@
+package com.meta.apigateway.filter;
+
+import com.meta.apigateway.security.JwtKeyProvider;
+import com.meta.apigateway.security.LocalJwtVerifier;
+import com.meta.apigateway.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticationFilterTest {
+    private static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+    private static final String UNKNOWN_SECRET = "ffeeddccbbaa99887766554433221100ffeeddccbbaa99887766554433221100";
+
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private WebClient.Builder webClientBuilder;
+    private LocalJwtVerifier verifier;
+    private VerifiedTokenCache tokenCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void init() {
+        webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            remoteCalls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"username\":\"hng\",\"authorities\":[\"ROLE_USER\"]}")
+                            .build())
+                    .delayElement(Duration.ofMillis(50));
+        });
+
+        JwtKeyProvider keyProvider = new JwtKeyProvider();
+        ReflectionTestUtils.setField(keyProvider, "jwtSecret", SECRET);
+        keyProvider.loadKeys();
+        verifier = new LocalJwtVerifier(keyProvider);
+        verifier.init();
+        tokenCache = new VerifiedTokenCache(100, Duration.ofMinutes(30), new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void testLocalModeAuthenticatesWithoutRemoteCall() {
+        AuthenticationFilter filter = new AuthenticationFilter(webClientBuilder, verifier, tokenCache, "local", meterRegistry);
+
+        Authentication auth = doFilter(filter, AuthenticationFilterMvcTest.token(SECRET, 60_000));
+
+        assertThat(auth.getName()).isEqualTo("admin");
+        assertThat(remoteCalls).hasValue(0);
+    }
+
+    @Test
+    public void testInvalidTokenContinuesUnauthenticated() {
+        AuthenticationFilter filter = new AuthenticationFilter(webClientBuilder, verifier, tokenCache, "local", meterRegistry);
+
+        Authentication auth = doFilter(filter, AuthenticationFilterMvcTest.token(SECRET, -60_000));
+
+        assertThat(auth).isNull();
+        assertThat(remoteCalls).hasValue(0);
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneRemoteVerification() {
+        AuthenticationFilter filter = new AuthenticationFilter(webClientBuilder, verifier, tokenCache, "local", meterRegistry);
+        String token = AuthenticationFilterMvcTest.token(UNKNOWN_SECRET, 60_000);
+
+        List<String> usernames = Flux.range(0, 20)
+                .flatMap(i -> filter.verify(token))
+                .map(verifiedToken -> verifiedToken.getUsername())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(usernames).hasSize(20).containsOnly("hng");
+        assertThat(remoteCalls).hasValue(1);
+    }
+
+    @Test
+    public void testVerificationIsTimedByResult() {
+        AuthenticationFilter filter = new AuthenticationFilter(webClientBuilder, verifier, tokenCache, "local", meterRegistry);
+
+        doFilter(filter, AuthenticationFilterMvcTest.token(SECRET, 60_000));
+        doFilter(filter, AuthenticationFilterMvcTest.token(SECRET, -60_000));
+
+        assertThat(meterRegistry.get(AuthenticationFilterMvc.AUTHENTICATION_TIMER).tag("result", "authenticated")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(AuthenticationFilterMvc.AUTHENTICATION_TIMER).tag("result", "rejected")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private static Authentication doFilter(AuthenticationFilter filter, String token) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/books")
+                .header(AuthenticationFilter.HEADER, AuthenticationFilter.HEADER_VALUE_PREFIX + " " + token));
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        WebFilterChain chain = ex -> ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .doOnNext(authentication::set)
+                .then();
+        filter.filter(exchange, chain).block(Duration.ofSeconds(5));
+        return authentication.get();
+    }
+}
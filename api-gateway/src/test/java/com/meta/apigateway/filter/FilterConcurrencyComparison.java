@@ -0,0 +1,170 @@
+package com.meta.apigateway.filter;
+
+import com.meta.apigateway.security.JwtKeyProvider;
+import com.meta.apigateway.security.LocalJwtVerifier;
+import com.meta.apigateway.security.VerifiedTokenCache;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sends a burst of requests with distinct tokens through both gateway filters in remote
+ * verification mode against a loopback auth-service stand-in that answers after a fixed delay.
+ * The servlet filter runs on a 200-thread pool, the size of Tomcat's default worker pool; the
+ * reactive filter runs on the reactor-netty event loop. Latency is measured from the start of the
+ * burst, so it includes time spent waiting for a free worker thread.
+ *
+ * <p>Run with {@code mvn test-compile} and then the {@link #main} method on the test classpath;
+ * optional arguments are the request count and the auth-service delay in milliseconds.
+ */
+public class FilterConcurrencyComparison {
+    private static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+    private static final int SERVLET_WORKER_THREADS = 200;
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        long delayMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer authService = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        authService.setExecutor(Executors.newCachedThreadPool());
+        authService.createContext("/api/v1/jwt/parse", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = "{\"username\":\"admin\",\"authorities\":[\"ROLE_USER\"]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        authService.start();
+        int port = authService.getAddress().getPort();
+
+        // unknown key, so the local verifier always falls back to auth-service
+        List<String> tokens = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            tokens.add(AuthenticationFilterMvcTest.token(
+                    "ffeeddccbbaa99887766554433221100ffeeddccbbaa99887766554433221100", 60_000 + i));
+        }
+
+        try {
+            runServlet(port, tokens);
+            runReactive(port, tokens);
+        } finally {
+            authService.stop(0);
+            System.exit(0);
+        }
+    }
+
+    private static void runServlet(int port, List<String> tokens) throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> execution.execute(
+                new HttpRequestWrapper(request) {
+                    @Override
+                    public URI getURI() {
+                        return UriComponentsBuilder.fromUri(request.getURI()).host("localhost").port(port).build().toUri();
+                    }
+                }, body));
+        AuthenticationFilterMvc filter = new AuthenticationFilterMvc(restTemplate, verifier(), noCache(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "verificationMode", "remote");
+
+        ExecutorService workers = Executors.newFixedThreadPool(SERVLET_WORKER_THREADS);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+        List<Future<Long>> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(workers.submit(() -> {
+                filter.verify(token);
+                return System.nanoTime() - start;
+            }));
+        }
+        long[] latencies = new long[tokens.size()];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = results.get(i).get();
+        }
+        report("servlet", start, latencies, threads.getPeakThreadCount());
+        workers.shutdownNow();
+    }
+
+    private static void runReactive(int port, List<String> tokens) {
+        ConnectionProvider connections = ConnectionProvider.builder("auth-service")
+                .maxConnections(1000)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient.Builder builder = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .filter((request, next) -> next.exchange(ClientRequest.from(request)
+                        .url(UriComponentsBuilder.fromUri(request.url()).host("localhost").port(port).build().toUri())
+                        .build()));
+        AuthenticationFilter filter = new AuthenticationFilter(builder, verifier(), noCache(), "remote", new SimpleMeterRegistry());
+
+        // warm the event loop and connection pool once so start-up is not counted
+        filter.verify(tokens.get(0)).block();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+        List<Long> latencies = Flux.fromIterable(tokens)
+                .flatMap(token -> filter.verify(token).map(verified -> System.nanoTime() - start), tokens.size())
+                .collectList()
+                .block(Duration.ofMinutes(5));
+        report("reactive", start, latencies.stream().mapToLong(Long::longValue).toArray(), threads.getPeakThreadCount());
+        connections.disposeLater().block();
+    }
+
+    private static void report(String mode, long start, long[] latencies, int peakThreads) {
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        System.out.printf("%-8s requests=%d wall=%dms rps=%.0f p50=%dms p99=%dms max=%dms peakThreads=%d%n",
+                mode, latencies.length, elapsed / 1_000_000, latencies.length / (elapsed / 1e9),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000,
+                peakThreads);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000_000;
+    }
+
+    private static LocalJwtVerifier verifier() {
+        JwtKeyProvider keyProvider = new JwtKeyProvider();
+        ReflectionTestUtils.setField(keyProvider, "jwtSecret", SECRET);
+        keyProvider.loadKeys();
+        LocalJwtVerifier verifier = new LocalJwtVerifier(keyProvider);
+        verifier.init();
+        return verifier;
+    }
+
+    private static VerifiedTokenCache noCache() {
+        return new VerifiedTokenCache(0, Duration.ZERO, new SimpleMeterRegistry());
+    }
+}
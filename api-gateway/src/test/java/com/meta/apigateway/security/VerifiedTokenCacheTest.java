@@ -0,0 +1,85 @@
+package com.meta.apigateway.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VerifiedTokenCacheTest {
+    private static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(2, Duration.ofMinutes(30), meterRegistry);
+    }
+
+    @Test
+    public void testHitAndMissAreCounted() {
+        String token = token(60_000);
+        cache.put(token, new VerifiedToken("admin", List.of("ROLE_ADMIN"), Instant.now().plusSeconds(60)));
+
+        assertThat(cache.get(token)).hasValueSatisfying(verified -> assertThat(verified.getUsername()).isEqualTo("admin"));
+        assertThat(cache.get(token(120_000))).isEmpty();
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEntryIsNotServedAfterTokenExpiry() {
+        String token = token(60_000);
+        cache.put(token, new VerifiedToken("admin", List.of("ROLE_ADMIN"), Instant.now().minusSeconds(1)));
+
+        assertThat(cache.get(token)).isEmpty();
+    }
+
+    @Test
+    public void testExpiryIsReadFromTokenWhenNotProvided() {
+        String expired = token(-1_000);
+        String live = token(60_000);
+        cache.put(expired, new VerifiedToken("admin", List.of("ROLE_ADMIN"), null));
+        cache.put(live, new VerifiedToken("admin", List.of("ROLE_ADMIN"), null));
+
+        assertThat(cache.get(expired)).isEmpty();
+        assertThat(cache.get(live)).isPresent();
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        for (int i = 0; i < 10; i++) {
+            cache.put(token(60_000 + i * 1_000L), new VerifiedToken("admin", List.of(), Instant.now().plusSeconds(60)));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testKeyIsDigestNotRawToken() {
+        String token = token(60_000);
+
+        assertThat(VerifiedTokenCache.digest(token)).isNotEqualTo(token).hasSize(43);
+    }
+
+    private static String token(long expiresInMillis) {
+        return Jwts.builder()
+                .setSubject("admin")
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+    }
+}
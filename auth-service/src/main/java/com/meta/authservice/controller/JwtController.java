@@ -1,6 +1,8 @@
 package com.meta.authservice.controller;
 
 import com.meta.authservice.dto.ErrorDto;
+import com.meta.authservice.dto.JwtBatchParseRequestDto;
+import com.meta.authservice.dto.JwtBatchParseResponseDto;
 import com.meta.authservice.dto.JwtParseRequestDto;
 import com.meta.authservice.dto.JwtParseResponseDto;
 import com.meta.authservice.service.JwtService;
@@ -28,11 +30,18 @@ public class JwtController {
             return new ResponseEntity<>(jwtParseResponseDto, HttpStatus.OK);
 
         } catch (Exception ex) {
-            log.error("JWT parsing error: {}, token: {}", ex.getLocalizedMessage(), jwtParseRequestDto);
-            ex.printStackTrace();
+            // an invalid or expired token is routine, so no stack trace and never the token itself
+            log.warn("process=parse-token, status=rejected, error={}", ex.getLocalizedMessage());
 
             return new ResponseEntity<>(new ErrorDto(ex.getLocalizedMessage()), HttpStatus.UNAUTHORIZED);
         }
      }
 
+    // each token gets its own result, so one bad token does not fail the whole batch
+    @PostMapping("/parse/batch")
+    public ResponseEntity<JwtBatchParseResponseDto> parseJwtBatch(@RequestBody JwtBatchParseRequestDto requestDto) {
+        return new ResponseEntity<>(new JwtBatchParseResponseDto(jwtService.parseJwtBatch(requestDto.getTokens())),
+                HttpStatus.OK);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.meta.authservice.dto;
+
+import java.util.List;
+
+public class JwtBatchParseResponseDto {
+
+    // one result per requested token, in request order
+    private List<JwtParseResultDto> results;
+
+    public JwtBatchParseResponseDto() {
+    }
+
+    public JwtBatchParseResponseDto(List<JwtParseResultDto> results) {
+        this.results = results;
+    }
+
+    public List<JwtParseResultDto> getResults() {
+        return results;
+    }
+
+    public void setResults(List<JwtParseResultDto> results) {
+        this.results = results;
+    }
+}
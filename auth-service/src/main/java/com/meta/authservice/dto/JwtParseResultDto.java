@@ -0,0 +1,72 @@
+package com.meta.authservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Outcome of parsing one token of a batch. {@code status} carries the HTTP status the single-token
+ * {@code /api/v1/jwt/parse} endpoint would have answered with; on success the claims are set,
+ * otherwise {@code message} holds the same error text.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JwtParseResultDto {
+
+    private int status;
+
+    private String username;
+
+    private List<String> authorities;
+
+    private String message;
+
+    public JwtParseResultDto() {
+    }
+
+    public static JwtParseResultDto success(JwtParseResponseDto responseDto) {
+        JwtParseResultDto result = new JwtParseResultDto();
+        result.setStatus(200);
+        result.setUsername(responseDto.getUsername());
+        result.setAuthorities(responseDto.getAuthorities());
+        return result;
+    }
+
+    public static JwtParseResultDto error(int status, String message) {
+        JwtParseResultDto result = new JwtParseResultDto();
+        result.setStatus(status);
+        result.setMessage(message);
+        return result;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+
+    public void setAuthorities(List<String> authorities) {
+        this.authorities = authorities;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
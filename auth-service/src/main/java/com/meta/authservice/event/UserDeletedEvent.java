@@ -0,0 +1,15 @@
+package com.meta.authservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Raised when an account is deleted through auth-service; tokens may name the user by either
+ * identifier.
+ */
+@Data
+@AllArgsConstructor
+public class UserDeletedEvent {
+    private String username;
+    private String email;
+}
@@ -16,4 +16,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
+
+    // plain existence check, does not pull in the eager roles join
+    Boolean existsByUsernameOrEmail(String username, String email);
 }
@@ -5,8 +5,11 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,17 +18,31 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    public static final String PRINCIPAL_SOURCE_TOKEN = "token";
+
     private JwtTokenProvider jwtTokenProvider;
 
     private UserDetailsService userDetailsService;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    private UserStatusCache userStatusCache;
+
+    // "token" builds the principal from the verified claims, "database" reloads the user on every request
+    @Value("${jwt.principal-source:token}")
+    private String principalSource = PRINCIPAL_SOURCE_TOKEN;
+
+    @Value("${jwt.user-status.enabled:true}")
+    private boolean userStatusCheck = true;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService,
+                                   UserStatusCache userStatusCache) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.userStatusCache = userStatusCache;
     }
 
     @Override
@@ -35,30 +52,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // get JWT token from http request
         String token = getTokenFromRequest(request);
-        logger.info("Detected Token: " + token);
-        // validate token
-        if(StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)){
+        if(StringUtils.hasText(token)){
 
-            // get username from token
-            String username = jwtTokenProvider.getUsername(token);
+            // validate token and get its claims in a single parse
+            JwtClaims claims = jwtTokenProvider.parseToken(token);
 
-            // load the user associated with token
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = loadUserDetails(claims);
 
-            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                userDetails.getAuthorities()
-            );
+            if (userDetails != null) {
+                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+                );
 
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadUserDetails(JwtClaims claims) {
+        if (!PRINCIPAL_SOURCE_TOKEN.equalsIgnoreCase(principalSource)) {
+            // load the user associated with token
+            return userDetailsService.loadUserByUsername(claims.getUsername());
+        }
+        if (userStatusCheck && !userStatusCache.isActive(claims.getUsername())) {
+            log.warn("process=authenticate-token, status=user-not-active, username={}", claims.getUsername());
+            return null;
+        }
+        // authorities were signed into the token at login, no need to read them back from the database
+        return new User(claims.getUsername(), "",
+                claims.getAuthorities().stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList()));
+    }
+
     private String getTokenFromRequest(HttpServletRequest request){
 
         String bearerToken = request.getHeader("Authorization");
@@ -0,0 +1,35 @@
+package com.meta.authservice.security;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Read-only view of the claims of a token whose signature and expiry have already been checked
+ * by {@link JwtTokenProvider#parseToken(String)}.
+ */
+public class JwtClaims {
+
+    private final String username;
+
+    private final List<String> authorities;
+
+    private final Date expiration;
+
+    public JwtClaims(String username, List<String> authorities, Date expiration) {
+        this.username = username;
+        this.authorities = authorities == null ? List.of() : List.copyOf(authorities);
+        this.expiration = expiration;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+}
@@ -3,6 +3,8 @@ package com.meta.authservice.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.ServletException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,21 @@ public class JwtTokenProvider {
     @Value("${jwt.expires_in}")
     private long jwtExpirationDate;
 
+    private Key key;
+
+    // JwtParser is immutable and thread-safe, build it once instead of per call
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        key = Keys.hmacShaKeyFor(
+                Decoders.BASE64.decode(jwtSecret)
+        );
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
     // generate JWT token
     public String generateToken(Authentication authentication){
         String username = authentication.getName();
@@ -39,54 +56,48 @@ public class JwtTokenProvider {
                 .claim("authorities", authorities)
                 .setIssuedAt(new Date())
                 .setExpiration(expireDate)
-                .signWith(key())
+                .signWith(key)
                 .compact();
         return token;
     }
 
-    private Key key(){
-        return Keys.hmacShaKeyFor(
-                Decoders.BASE64.decode(jwtSecret)
-        );
+    // validate the token once and return its claims
+    public JwtClaims parseToken(String token) throws ServletException {
+        Claims claims = parseClaims(token);
+        List<String> authorities = claims.get("authorities", List.class);
+        return new JwtClaims(claims.getSubject(), authorities, claims.getExpiration());
     }
 
     // get username from Jwt token
     public String getUsername(String token){
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        String username = claims.getSubject();
-        return username;
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
     }
 
     // validate Jwt token
     public boolean validateToken(String token) throws ServletException{
+        parseClaims(token);
+        return true;
+    }
+
+    public List<String> getAuthorities(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        List<String> authorities = claims.get("authorities", List.class);
+        return authorities;
+    }
+
+    private Claims parseClaims(String token) throws ServletException {
         try{
-            Jwts.parserBuilder()
-                    .setSigningKey(key())
-                    .build()
-                    .parse(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (MalformedJwtException ex) {
             throw new ServletException(HttpStatus.BAD_REQUEST + "Invalid JWT token");
         } catch (ExpiredJwtException ex) {
             throw new ServletException(HttpStatus.BAD_REQUEST + "Expired JWT token");
         } catch (UnsupportedJwtException ex) {
             throw new ServletException(HttpStatus.BAD_REQUEST + "Unsupported JWT token");
+        } catch (SignatureException ex) {
+            throw new ServletException(HttpStatus.BAD_REQUEST + "Invalid JWT signature");
         } catch (IllegalArgumentException ex) {
             throw new ServletException(HttpStatus.BAD_REQUEST + "JWT claims string is empty.");
         }
     }
-
-    public List<String> getAuthorities(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        List<String> authorities = claims.get("authorities", List.class);
-        return authorities;
-    }
 }
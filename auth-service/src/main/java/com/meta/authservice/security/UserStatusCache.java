@@ -0,0 +1,48 @@
+package com.meta.authservice.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.meta.authservice.event.UserDeletedEvent;
+import com.meta.authservice.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Short-lived answer to "does the account behind this token still exist", so a deleted user is
+ * locked out within {@code jwt.user-status.ttl} while repeated requests do not touch JPA.
+ * Deletions made through auth-service take effect at once; those made through user-service are
+ * not seen here and wait out the TTL.
+ */
+@Component
+public class UserStatusCache {
+
+    private final LoadingCache<String, Boolean> activeUsers;
+
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${jwt.user-status.ttl:30s}") Duration ttl,
+                           @Value("${jwt.user-status.max-size:10000}") long maxSize) {
+        this.activeUsers = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build(usernameOrEmail -> Boolean.TRUE.equals(
+                        userRepository.existsByUsernameOrEmail(usernameOrEmail, usernameOrEmail)));
+    }
+
+    public boolean isActive(String usernameOrEmail) {
+        return activeUsers.get(usernameOrEmail);
+    }
+
+    public void invalidate(String usernameOrEmail) {
+        activeUsers.invalidate(usernameOrEmail);
+    }
+
+    // after commit, so a concurrent request cannot reload the account while the delete is in flight
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate(event.getUsername());
+        invalidate(event.getEmail());
+    }
+}
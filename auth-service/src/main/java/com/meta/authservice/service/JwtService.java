@@ -2,8 +2,13 @@ package com.meta.authservice.service;
 
 import com.meta.authservice.dto.JwtParseRequestDto;
 import com.meta.authservice.dto.JwtParseResponseDto;
+import com.meta.authservice.dto.JwtParseResultDto;
 import jakarta.servlet.ServletException;
 
+import java.util.List;
+
 public interface JwtService {
     JwtParseResponseDto parseJwt(String token) throws ServletException;
+
+    List<JwtParseResultDto> parseJwtBatch(List<String> tokens);
 }
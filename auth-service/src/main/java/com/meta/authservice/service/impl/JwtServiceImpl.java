@@ -2,26 +2,57 @@ package com.meta.authservice.service.impl;
 
 import com.meta.authservice.dto.JwtParseRequestDto;
 import com.meta.authservice.dto.JwtParseResponseDto;
+import com.meta.authservice.dto.JwtParseResultDto;
+import com.meta.authservice.exception.BlogAPIException;
+import com.meta.authservice.security.JwtClaims;
 import com.meta.authservice.security.JwtTokenProvider;
 import com.meta.authservice.service.JwtService;
 import jakarta.servlet.ServletException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Objects;
 
 @Service
 public class JwtServiceImpl implements JwtService {
     private final JwtTokenProvider jwtTokenProvider;
 
+    @Value("${jwt.batch.max-size:1000}")
+    private int batchMaxSize = 1000;
+
     public JwtServiceImpl(JwtTokenProvider jwtTokenProvider) {
         this.jwtTokenProvider = jwtTokenProvider;
     }
     public JwtParseResponseDto parseJwt(String token) throws ServletException {
         Objects.requireNonNull(token);
-        jwtTokenProvider.validateToken(token);
+        JwtClaims claims = jwtTokenProvider.parseToken(token);
         JwtParseResponseDto responseDto = new JwtParseResponseDto();
-        responseDto.setUsername(jwtTokenProvider.getUsername(token));
-        responseDto.setAuthorities(jwtTokenProvider.getAuthorities(token));
+        responseDto.setUsername(claims.getUsername());
+        responseDto.setAuthorities(claims.getAuthorities());
         return responseDto;
     }
+
+    public List<JwtParseResultDto> parseJwtBatch(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return List.of();
+        }
+        if (tokens.size() > batchMaxSize) {
+            throw new BlogAPIException(HttpStatus.BAD_REQUEST,
+                    "A batch can contain at most " + batchMaxSize + " tokens.");
+        }
+        // signature checks are CPU bound, so the common fork-join pool fits; order is preserved
+        return tokens.parallelStream()
+                .map(this::parseJwtResult)
+                .toList();
+    }
+
+    private JwtParseResultDto parseJwtResult(String token) {
+        try {
+            return JwtParseResultDto.success(parseJwt(token));
+        } catch (Exception ex) {
+            return JwtParseResultDto.error(HttpStatus.UNAUTHORIZED.value(), ex.getLocalizedMessage());
+        }
+    }
 }
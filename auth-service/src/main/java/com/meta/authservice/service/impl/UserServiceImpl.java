@@ -8,10 +8,13 @@
 package com.meta.authservice.service.impl;
 
 import com.meta.authservice.entity.User;
+import com.meta.authservice.event.UserDeletedEvent;
 import com.meta.authservice.repository.UserRepository;
 import com.meta.authservice.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,10 +30,13 @@ public class UserServiceImpl implements UserService
 {
     private final UserRepository userRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
-    public UserServiceImpl(UserRepository userRepository)
+    public UserServiceImpl(UserRepository userRepository, ApplicationEventPublisher eventPublisher)
     {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -58,9 +64,14 @@ public class UserServiceImpl implements UserService
     }
 
 
+    @Transactional
     public void deleteUser(Long userId)
     {
-        userRepository.deleteById(userId);
+        userRepository.findById(userId).ifPresent(user -> {
+            userRepository.delete(user);
+            // the status cache drops the account once the delete has committed
+            eventPublisher.publishEvent(new UserDeletedEvent(user.getUsername(), user.getEmail()));
+        });
     }
 
 
@@ -0,0 +1,27 @@
+-- Accounts and roles, owned by auth-service; user-service reads the same tables
+CREATE TABLE users (
+    user_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    enabled BOOLEAN NOT NULL,
+    last_password_reset_date TIMESTAMP
+);
+
+CREATE UNIQUE INDEX username ON users(username);
+CREATE UNIQUE INDEX email ON users(email);
+
+CREATE TABLE roles (
+    role_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+);
+
+CREATE UNIQUE INDEX name ON roles(name);
+
+CREATE TABLE user_role (
+    user_id BIGINT REFERENCES users(user_id),
+    role_id BIGINT REFERENCES roles(role_id)
+);
+
+CREATE INDEX idx_user_role_user_id ON user_role(user_id);
@@ -0,0 +1,15 @@
+INSERT INTO users (username, password, name, email, enabled, last_password_reset_date) VALUES
+('admin', '$2a$10$zuI3P8hoZNkFGR2dDPW9juA1C1xIHBUNrKMGqjjaEKsLTwjJkKoNa', 'Admin', 'admin@gmail.com', true, CURRENT_TIMESTAMP),
+('hng', '$2a$10$LskLrNP6m.dEpXYjT41lRePseXJEjhd6.sPH2Z5GbbShtaFRWoeYq', 'Siva', 'siva@gmail.com', true, CURRENT_TIMESTAMP);
+
+INSERT INTO roles (role_id, name) VALUES
+(1, 'ROLE_USER'),
+(2, 'ROLE_ADMIN');
+
+-- the ids above were given explicitly, so move the identity past them
+SELECT setval(pg_get_serial_sequence('roles', 'role_id'), (SELECT MAX(role_id) FROM roles));
+
+INSERT INTO user_role (user_id, role_id) VALUES
+(1, 1),
+(2, 1),
+(2, 2);
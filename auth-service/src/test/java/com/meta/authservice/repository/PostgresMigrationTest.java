@@ -0,0 +1,82 @@
+package com.meta.authservice.repository;
+
+import com.meta.authservice.entity.Role;
+import com.meta.authservice.entity.User;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the JPA slice on the postgres profile against an embedded PostgreSQL, so the Flyway
+ * migrations run and Hibernate validates the entities against the schema they produce.
+ */
+@DataJpaTest
+@ActiveProfiles("postgres")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PostgresMigrationTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    public void testSampleUsersAreMigrated() {
+        // when
+        Optional<User> user = userRepository.findByUsername("hng");
+
+        // then
+        assertThat(user).isPresent();
+        assertThat(user.get().getRoles()).extracting(Role::getName)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    public void testRoleIdentityContinuesAfterSeededIds() {
+        // when
+        Role role = roleRepository.saveAndFlush(new Role(null, "ROLE_AUDITOR"));
+
+        // then
+        assertThat(role.getRoleId()).isEqualTo(3L);
+    }
+
+    @Test
+    public void testConnectionsUseConfiguredDriverProperties() {
+        // when
+        String applicationName = jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+
+        // then
+        assertThat(applicationName).isEqualTo("auth-service");
+    }
+}
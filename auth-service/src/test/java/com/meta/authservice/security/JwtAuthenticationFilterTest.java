@@ -0,0 +1,95 @@
+package com.meta.authservice.security;
+
+import com.meta.authservice.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class JwtAuthenticationFilterTest {
+
+    private UserDetailsService userDetailsService;
+    private UserRepository userRepository;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @BeforeEach
+    public void init() {
+        JwtTokenProvider jwtTokenProvider = JwtTokenProviderTest.newProvider(1800000);
+        userDetailsService = mock(UserDetailsService.class);
+        userRepository = mock(UserRepository.class);
+        UserStatusCache userStatusCache = new UserStatusCache(userRepository, Duration.ofSeconds(30), 100);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userStatusCache);
+        token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken("admin@gmail.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testTokenModeBuildsPrincipalFromClaims() throws Exception {
+        when(userRepository.existsByUsernameOrEmail(anyString(), anyString())).thenReturn(true);
+
+        Authentication first = doFilter();
+        SecurityContextHolder.clearContext();
+        Authentication second = doFilter();
+
+        assertThat(first.getName()).isEqualTo("admin@gmail.com");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        verifyNoInteractions(userDetailsService);
+        // the status check is cached, so two requests cost one lookup
+        verify(userRepository, times(1)).existsByUsernameOrEmail("admin@gmail.com", "admin@gmail.com");
+    }
+
+    @Test
+    public void testTokenModeRejectsRemovedUser() throws Exception {
+        when(userRepository.existsByUsernameOrEmail(anyString(), anyString())).thenReturn(false);
+
+        assertThat(doFilter()).isNull();
+    }
+
+    @Test
+    public void testTokenModeWithoutStatusCheckNeverTouchesRepository() throws Exception {
+        ReflectionTestUtils.setField(filter, "userStatusCheck", false);
+
+        assertThat(doFilter()).isNotNull();
+        verifyNoInteractions(userRepository, userDetailsService);
+    }
+
+    @Test
+    public void testDatabaseModeLoadsUser() throws Exception {
+        ReflectionTestUtils.setField(filter, "principalSource", "database");
+        when(userDetailsService.loadUserByUsername("admin@gmail.com")).thenReturn(new User("admin@gmail.com", "secret",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        Authentication auth = doFilter();
+
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    private Authentication doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,78 @@
+package com.meta.authservice.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtTokenProviderTest {
+    static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    public void init() {
+        jwtTokenProvider = newProvider(1800000);
+    }
+
+    @Test
+    public void testParseTokenReturnsClaims() throws Exception {
+        String token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken("admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        JwtClaims claims = jwtTokenProvider.parseToken(token);
+
+        assertThat(claims.getUsername()).isEqualTo("admin");
+        assertThat(claims.getAuthorities()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(claims.getExpiration()).isInTheFuture();
+    }
+
+    @Test
+    public void testParseTokenRejectsExpiredToken() {
+        String token = newProvider(-1000).generateToken(new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken(token))
+                .isInstanceOf(ServletException.class)
+                .hasMessageContaining("Expired JWT token");
+    }
+
+    @Test
+    public void testParseTokenRejectsForeignSignature() {
+        String token = Jwts.builder()
+                .setSubject("admin")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(
+                        "ffeeddccbbaa99887766554433221100ffeeddccbbaa99887766554433221100")))
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken(token))
+                .isInstanceOf(ServletException.class)
+                .hasMessageContaining("Invalid JWT signature");
+    }
+
+    @Test
+    public void testParseTokenRejectsMalformedToken() {
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken("not-a-token"))
+                .isInstanceOf(ServletException.class)
+                .hasMessageContaining("Invalid JWT token");
+    }
+
+    static JwtTokenProvider newProvider(long expiresIn) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationDate", expiresIn);
+        provider.init();
+        return provider;
+    }
+}
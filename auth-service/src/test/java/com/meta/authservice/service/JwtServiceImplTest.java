@@ -0,0 +1,85 @@
+package com.meta.authservice.service;
+
+import com.meta.authservice.dto.JwtParseResultDto;
+import com.meta.authservice.exception.BlogAPIException;
+import com.meta.authservice.security.JwtTokenProvider;
+import com.meta.authservice.service.impl.JwtServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtServiceImplTest {
+    private static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtServiceImpl jwtService;
+
+    @BeforeEach
+    public void init() {
+        jwtTokenProvider = newProvider(1800000);
+        jwtService = new JwtServiceImpl(jwtTokenProvider);
+    }
+
+    @Test
+    public void testParseJwtBatchReturnsResultPerTokenInOrder() {
+        String valid = token(jwtTokenProvider, "admin");
+        String expired = token(newProvider(-1000), "hng");
+
+        List<JwtParseResultDto> results = jwtService.parseJwtBatch(Arrays.asList(valid, expired, "garbage", null));
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).getStatus()).isEqualTo(200);
+        assertThat(results.get(0).getUsername()).isEqualTo("admin");
+        assertThat(results.get(0).getAuthorities()).containsExactly("ROLE_USER");
+        assertThat(results.get(1).getStatus()).isEqualTo(401);
+        assertThat(results.get(1).getMessage()).contains("Expired JWT token");
+        assertThat(results.get(2).getStatus()).isEqualTo(401);
+        assertThat(results.get(2).getMessage()).contains("Invalid JWT token");
+        assertThat(results.get(3).getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    public void testParseJwtBatchKeepsOrderForLargeBatch() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tokens.add(token(jwtTokenProvider, "user" + i));
+        }
+
+        List<JwtParseResultDto> results = jwtService.parseJwtBatch(tokens);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(results.get(i).getUsername()).isEqualTo("user" + i);
+        }
+    }
+
+    @Test
+    public void testParseJwtBatchRejectsOversizedBatch() {
+        ReflectionTestUtils.setField(jwtService, "batchMaxSize", 2);
+
+        assertThatThrownBy(() -> jwtService.parseJwtBatch(Collections.nCopies(3, "token")))
+                .isInstanceOf(BlogAPIException.class);
+    }
+
+    private static String token(JwtTokenProvider provider, String username) {
+        return provider.generateToken(new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static JwtTokenProvider newProvider(long expiresIn) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationDate", expiresIn);
+        provider.init();
+        return provider;
+    }
+}
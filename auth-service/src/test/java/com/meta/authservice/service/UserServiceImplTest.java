@@ -0,0 +1,46 @@
+package com.meta.authservice.service;
+
+import com.meta.authservice.entity.User;
+import com.meta.authservice.repository.UserRepository;
+import com.meta.authservice.security.UserStatusCache;
+import com.meta.authservice.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({UserServiceImpl.class, UserStatusCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class UserServiceImplTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStatusCache userStatusCache;
+
+    @Test
+    public void testDeletedUserIsDroppedFromStatusCacheOnCommit() {
+        // given
+        User user = userRepository.save(new User(null, "Ada", "ada", "ada@example.com", "{noop}secret", true, Set.of()));
+        assertThat(userStatusCache.isActive("ada")).isTrue();
+        assertThat(userStatusCache.isActive("ada@example.com")).isTrue();
+
+        // when
+        userService.deleteUser(user.getId());
+
+        // then
+        assertThat(userStatusCache.isActive("ada")).isFalse();
+        assertThat(userStatusCache.isActive("ada@example.com")).isFalse();
+    }
+}
@@ -0,0 +1,161 @@
+package com.meta.apigateway.filter;
+
+import com.meta.apigateway.security.JwtKeyProvider;
+import com.meta.apigateway.security.LocalJwtVerifier;
+import com.meta.apigateway.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the gateway's two JWT verification modes. The remote mode talks to a loopback
+ * stand-in for auth-service's {@code /api/v1/jwt/parse} that does the same jjwt parse, so the
+ * difference is the HTTP round trip the local mode removes; real deployments add network
+ * latency and auth-service queueing on top. The first two benchmarks run with the token cache
+ * disabled; {@code cachedVerification} shows a repeated token. {@code filterRequest} is a whole
+ * pass through the filter with local verification: header parsing, verification and building the
+ * security context.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=JwtVerificationBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private HttpServer authService;
+    private AuthenticationFilterMvc localFilter;
+    private AuthenticationFilterMvc remoteFilter;
+    private AuthenticationFilterMvc cachedFilter;
+    private String token;
+    private MockHttpServletRequest request;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setup() throws Exception {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = Jwts.builder()
+                .setSubject("admin")
+                .claim("authorities", List.of("ROLE_USER", "ROLE_ADMIN"))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 1800000))
+                .signWith(key)
+                .compact();
+
+        JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+        // without TCP_NODELAY the stand-in adds a ~40ms delayed-ACK stall that auth-service does not have
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        authService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        authService.createContext("/api/v1/jwt/parse", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = TOKEN.matcher(body);
+            matcher.find();
+            Claims claims = parser.parseClaimsJws(matcher.group(1)).getBody();
+            byte[] response = ("{\"username\":\"" + claims.getSubject()
+                    + "\",\"authorities\":[\"ROLE_USER\",\"ROLE_ADMIN\"]}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        authService.start();
+
+        int port = authService.getAddress().getPort();
+        RestTemplate restTemplate = new RestTemplate();
+        // stands in for the load balancer resolving http://auth-service
+        restTemplate.getInterceptors().add((request, body, execution) -> execution.execute(
+                new HttpRequestWrapper(request) {
+                    @Override
+                    public URI getURI() {
+                        return UriComponentsBuilder.fromUri(request.getURI()).host("localhost").port(port).build().toUri();
+                    }
+                }, body));
+
+        JwtKeyProvider keyProvider = new JwtKeyProvider();
+        ReflectionTestUtils.setField(keyProvider, "jwtSecret", SECRET);
+        keyProvider.loadKeys();
+        LocalJwtVerifier verifier = new LocalJwtVerifier(keyProvider);
+        verifier.init();
+
+        VerifiedTokenCache noCache = new VerifiedTokenCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        localFilter = new AuthenticationFilterMvc(restTemplate, verifier, noCache, new SimpleMeterRegistry());
+        remoteFilter = new AuthenticationFilterMvc(restTemplate, verifier, noCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(remoteFilter, "verificationMode", "remote");
+        cachedFilter = new AuthenticationFilterMvc(restTemplate, verifier,
+                new VerifiedTokenCache(10000, Duration.ofMinutes(30), new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cachedFilter, "verificationMode", "remote");
+
+        request = new MockHttpServletRequest("GET", "/api/v1/books");
+        request.addHeader(AuthenticationFilterMvc.HEADER, AuthenticationFilterMvc.HEADER_VALUE_PREFIX + " " + token);
+    }
+
+    @TearDown
+    public void tearDown() {
+        authService.stop(0);
+    }
+
+    @Benchmark
+    public Object localVerification() {
+        return localFilter.verify(token);
+    }
+
+    @Benchmark
+    public Object remoteVerification() {
+        return remoteFilter.verify(token);
+    }
+
+    @Benchmark
+    public Object cachedVerification() {
+        return cachedFilter.verify(token);
+    }
+
+    @Benchmark
+    public Object filterRequest() throws Exception {
+        localFilter.doFilter(request, new MockHttpServletResponse(), chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.meta.authservice.security;
+
+import com.meta.authservice.entity.Role;
+import com.meta.authservice.entity.User;
+import com.meta.authservice.repository.RoleRepository;
+import com.meta.authservice.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CustomUserDetailsService#loadUserByUsername} against an in-memory H2 database holding
+ * {@value #USERS} users, looked up by username and by email. Only auth-service's JPA slice is
+ * booted; a networked database adds its round trips on top.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=CustomUserDetailsServiceBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomUserDetailsServiceBenchmark {
+    private static final int USERS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private CustomUserDetailsService userDetailsService;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(JpaSlice.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.config.name=benchmark",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--logging.level.root=WARN");
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        // one transaction, so the roles stay managed while the users cascade to them
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            Role userRole = roleRepository.save(new Role(null, "ROLE_USER"));
+            Role adminRole = roleRepository.save(new Role(null, "ROLE_ADMIN"));
+            List<User> users = new ArrayList<>(USERS);
+            for (int i = 0; i < USERS; i++) {
+                User user = new User();
+                user.setName("User " + i);
+                user.setUsername("user" + i);
+                user.setEmail("user" + i + "@example.com");
+                user.setPassword("$2a$10$zuI3P8hoZNkFGR2dDPW9juA1C1xIHBUNrKMGqjjaEKsLTwjJkKoNa");
+                user.setEnabled(true);
+                user.setRoles(i % 10 == 0 ? Set.of(userRole, adminRole) : Set.of(userRole));
+                users.add(user);
+            }
+            userRepository.saveAll(users);
+        });
+        userDetailsService = new CustomUserDetailsService(userRepository);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails loadByUsername() {
+        return userDetailsService.loadUserByUsername("user" + ThreadLocalRandom.current().nextInt(USERS));
+    }
+
+    @Benchmark
+    public UserDetails loadByEmail() {
+        return userDetailsService.loadUserByUsername("user" + ThreadLocalRandom.current().nextInt(USERS) + "@example.com");
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class JpaSlice {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CustomUserDetailsServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
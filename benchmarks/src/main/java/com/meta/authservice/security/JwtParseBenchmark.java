@@ -0,0 +1,71 @@
+package com.meta.authservice.security;
+
+import com.meta.authservice.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code /api/v1/jwt/parse}'s service call. {@code threePassParse} replays the
+ * previous implementation (validate, username and authorities each decoding the secret and
+ * building a parser); {@code singlePassParse} is the current {@link JwtServiceImpl#parseJwt}.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=JwtParseBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private JwtServiceImpl jwtService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtTokenProvider provider = JwtTokenProviderBenchmark.newProvider();
+        jwtService = new JwtServiceImpl(provider);
+        token = provider.generateToken(new UsernamePasswordAuthenticationToken("admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @Benchmark
+    public Object singlePassParse() throws Exception {
+        return jwtService.parseJwt(token);
+    }
+
+    @Benchmark
+    public Object threePassParse() {
+        Jwts.parserBuilder().setSigningKey(legacyKey()).build().parse(token);
+        String username = Jwts.parserBuilder().setSigningKey(legacyKey()).build()
+                .parseClaimsJws(token).getBody().getSubject();
+        Claims claims = Jwts.parserBuilder().setSigningKey(legacyKey()).build()
+                .parseClaimsJws(token).getBody();
+        return List.of(username, claims.get("authorities", List.class));
+    }
+
+    private static Key legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtTokenProviderBenchmark.SECRET));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JwtParseBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,68 @@
+package com.meta.authservice.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing and verifying cost of {@link JwtTokenProvider}: {@code generateToken} runs on every
+ * login, {@code validateToken} on every request auth-service authenticates itself.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=JwtTokenProviderBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    static final String SECRET = "daf66e01593f61a15b857cf433aae03a005812b31234e149036bcc8dee755dbb";
+
+    private JwtTokenProvider provider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setup() {
+        provider = newProvider();
+        authentication = new UsernamePasswordAuthenticationToken("admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        token = provider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() throws Exception {
+        return provider.validateToken(token);
+    }
+
+    // the provider as auth-service configures it, with the default secret and a 30 minute expiry
+    static JwtTokenProvider newProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationDate", 1800000L);
+        provider.init();
+        return provider;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
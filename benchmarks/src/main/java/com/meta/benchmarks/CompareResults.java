@@ -0,0 +1,84 @@
+package com.meta.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, e.g. the {@code jmh-result.json} of the last release against
+ * the current one, and prints the change of every benchmark and parameter combination. A change
+ * past the threshold in the slower direction (lower throughput, higher time per operation) is a
+ * regression and makes the exit code 1.
+ *
+ * <p>Run from benchmarks with {@code mvn exec:java@compare -Dbaseline=<earlier jmh-result.json>}.
+ */
+public class CompareResults {
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: CompareResults <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            String unit = now.path("primaryMetric").path("scoreUnit").asText();
+            double score = now.path("primaryMetric").path("score").asDouble();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", score, "new", unit);
+                continue;
+            }
+            double previous = before.path("primaryMetric").path("score").asDouble();
+            double change = previous == 0 ? 0 : (score - previous) / previous * 100;
+            // throughput modes get better as the score rises, time modes as it falls
+            double slowdown = "thrpt".equals(now.path("mode").asText()) ? -change : change;
+            boolean regressed = slowdown > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), previous, score, change, unit,
+                    regressed ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-90s %14s%n", key, "removed"));
+
+        System.out.printf("%n%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    // keyed by benchmark, mode and parameters, e.g. "ReviewMapperBenchmark.toDtos avgt size=100"
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(shortName(result.path("benchmark").asText()))
+                    .append(' ').append(result.path("mode").asText());
+            Map<String, String> params = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = result.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static String shortName(String benchmark) {
+        String[] parts = benchmark.split("\\.");
+        return parts.length < 2 ? benchmark : parts[parts.length - 2] + "." + parts[parts.length - 1];
+    }
+}
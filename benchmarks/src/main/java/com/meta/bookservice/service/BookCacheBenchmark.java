@@ -0,0 +1,124 @@
+package com.meta.bookservice.service;
+
+import com.meta.bookservice.BookServiceApplication;
+import com.meta.bookservice.entity.Author;
+import com.meta.bookservice.entity.Book;
+import com.meta.bookservice.entity.Genre;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads random books through {@link BookService#getBookById} with the second-level and query
+ * caches on and off. Each variant boots the service against an in-memory H2 database and prints
+ * the JDBC statements issued per read, which is what the cache saves against a real, remote
+ * database; the in-memory round trip itself is far cheaper than a networked one.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=BookCacheBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookCacheBenchmark {
+    private static final int BOOKS = 1000;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private Statistics statistics;
+    private List<Integer> bookIds;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BookServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                // command-line arguments, so they override application.properties
+                .run("--spring.config.location=" + serviceProperties(),
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--eureka.client.enabled=false",
+                        // api-gateway's jar is on this classpath too
+                        "--spring.cloud.gateway.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cacheEnabled,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + cacheEnabled);
+        bookService = context.getBean(BookService.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        bookIds = context.getBean(TransactionTemplate.class).execute(status -> {
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < BOOKS; i++) {
+                Genre genre = new Genre();
+                genre.setName("Genre " + i % 10);
+                Author author = new Author();
+                author.setName("Author " + i);
+                entityManager.persist(genre);
+                entityManager.persist(author);
+                Book book = new Book();
+                book.setTitle("Book " + i);
+                book.setGenre(genre);
+                book.setAuthors(Set.of(author));
+                entityManager.persist(book);
+                ids.add(book.getId());
+            }
+            return ids;
+        });
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStatements() {
+        long reads = statistics.getQueryExecutionCount() + statistics.getQueryCacheHitCount();
+        System.out.printf("%n  statements per read: %.2f%n", 2.0 * statistics.getPrepareStatementCount() / Math.max(reads, 1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getBookById() {
+        return bookService.getBookById(bookIds.get(ThreadLocalRandom.current().nextInt(BOOKS)).longValue());
+    }
+
+    // every service jar on this classpath has an application.properties; load book-service's own
+    private static String serviceProperties() {
+        URL root = BookServiceApplication.class.getProtectionDomain().getCodeSource().getLocation();
+        return root.getPath().endsWith(".jar") ? "jar:" + root + "!/application.properties" : root + "application.properties";
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(BookCacheBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.meta.bookservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.bookservice.entity.Author;
+import com.meta.bookservice.entity.Book;
+import com.meta.bookservice.entity.Genre;
+import com.meta.bookservice.payload.BookDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of book pages with the object mapper Spring MVC builds. {@code bookGraphs}
+ * writes {@link Book} entities with their genre and authors attached; {@code bookDtos} writes the
+ * flattened {@link BookDTO} read model the controllers return for the same books.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=BookSerializationBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookSerializationBenchmark {
+
+    @Param({"1", "20", "100"})
+    public int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Book> books;
+    private List<BookDTO> bookDtos;
+
+    @Setup
+    public void setup() {
+        books = new ArrayList<>(size);
+        bookDtos = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            Genre genre = new Genre();
+            genre.setId(i % 10 + 1);
+            genre.setName("Genre " + genre.getId());
+            Set<Author> authors = new LinkedHashSet<>();
+            for (int a = 0; a < 2; a++) {
+                Author author = new Author();
+                author.setId(i * 2 + a);
+                author.setName("Author " + author.getId());
+                authors.add(author);
+            }
+            Book book = new Book();
+            book.setId(i);
+            book.setTitle("Book " + i);
+            book.setIsbn("978-0-00-" + String.format("%06d", i) + "-0");
+            book.setPublicationYear(1950 + i % 70);
+            book.setGenre(genre);
+            book.setAuthors(authors);
+            books.add(book);
+            bookDtos.add(new BookDTO(book.getId(), book.getTitle(), book.getIsbn(), book.getPublicationYear(),
+                    genre.getName(), authors.stream().map(Author::getName).toList()));
+        }
+    }
+
+    @Benchmark
+    public byte[] bookGraphs() throws Exception {
+        return objectMapper.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public byte[] bookDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(bookDtos);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(BookSerializationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.meta.reviewservice.controller;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a review read that writes its INFO request line, as {@link ReviewController} does,
+ * with the line written:
+ * <ul>
+ *     <li>{@code sync}: straight to the output by the request thread, like Boot's plain console appender</li>
+ *     <li>{@code async}: through the AsyncAppender of logback-spring.xml</li>
+ *     <li>{@code async-sampled}: the same with the prod profile's {@code request-log.sample-rate=100}</li>
+ * </ul>
+ * The request's own work is {@code work} tokens of {@link Blackhole#consumeCPU}, and the output a
+ * temporary file written with Boot's console pattern. Like in the services, the async modes drop
+ * INFO lines while their queue is more than 80% full.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=RequestLoggingBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestLoggingBenchmark {
+    // Boot's CONSOLE_LOG_PATTERN without colours
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p 1 --- [review-service] [%15.15t] "
+            + "%-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async", "async-sampled"})
+    public String mode;
+
+    @Param({"1000", "10000"})
+    public int work;
+
+    private LoggerContext context;
+    private Logger log;
+    private RequestLogSampler requestLog;
+    private File output;
+
+    @Setup
+    public void setup() throws IOException {
+        context = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        output = File.createTempFile("request-logging", ".log");
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(output.getPath());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!"sync".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        log = context.getLogger(ReviewController.class);
+        requestLog = new RequestLogSampler("async-sampled".equals(mode) ? 100 : 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        // stopping the context drains the async queue first
+        context.stop();
+        output.delete();
+    }
+
+    @Benchmark
+    public void getReviewsByBookId() {
+        long bookId = ThreadLocalRandom.current().nextLong(1, 1000);
+        if (requestLog.sample(log)) {
+            log.info("process=get-reviews-by-book-id, book_id={}, cursor={}", bookId, null);
+        }
+        Blackhole.consumeCPU(work);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(RequestLoggingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.meta.reviewservice.converter;
+
+import com.meta.reviewservice.dto.ReviewDto;
+import com.meta.reviewservice.entity.Review;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct list mapping behind every review listing, at the default and maximum
+ * page sizes and at the bulk-import batch size.
+ *
+ * <p>Run from benchmarks with {@code mvn compile exec:exec -Djmh.args=ReviewMapperBenchmark},
+ * or the {@link #main} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewMapperBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int size;
+
+    private final ReviewMapper reviewMapper = ReviewMapper.INSTANCE;
+    private List<Review> reviews;
+    private List<ReviewDto> reviewDtos;
+
+    @Setup
+    public void setup() {
+        reviews = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            Review review = new Review();
+            review.setReviewId(i);
+            review.setUserId(i % 50 + 1);
+            review.setBookId(i % 200 + 1);
+            review.setRating(i % 5 + 1);
+            review.setComment("Review " + i + " of a book worth reading twice.");
+            reviews.add(review);
+        }
+        reviewDtos = reviewMapper.toDto(reviews);
+    }
+
+    @Benchmark
+    public List<ReviewDto> toDtos() {
+        return reviewMapper.toDto(reviews);
+    }
+
+    @Benchmark
+    public List<Review> toEntities() {
+        return reviewMapper.toEntity(reviewDtos);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ReviewMapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -1,11 +1,15 @@
 package com.meta.bookservice.controller;
 
+import com.meta.bookservice.payload.BookDTO;
+import com.meta.bookservice.payload.BookPage;
 import com.meta.bookservice.service.BookService;
 import lombok.extern.slf4j.Slf4j;
 import com.meta.bookservice.entity.Book;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,28 +21,41 @@ public class BookController {
     @Autowired
     private BookService bookService;
 
-    // 1. Add a method to return all books
+    // 1. Add a method to return books a page at a time
     @GetMapping
-    public List<Book> getAllBooks() {
-        return bookService.getAllBooks();
+    public BookPage getAllBooks(@RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer size) {
+        return bookService.getBooks(cursor, size);
+    }
+
+    // Return several books in one call, in the order of the requested ids
+    @GetMapping(params = "ids")
+    public List<BookDTO> getBooksByIds(@RequestParam List<Long> ids) {
+        return bookService.getBooksByIds(ids);
+    }
+
+    // Export the whole catalogue as newline-delimited JSON
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportBooks() {
+        return bookService::exportBooks;
     }
 
     // 2. Add a method to return a book by its ID
     @GetMapping("/{id}")
-    public Book getBookById(@PathVariable Long id) {
+    public BookDTO getBookById(@PathVariable Long id) {
         return bookService.getBookById(id);
     }
 
     // 3. Add a method to create a new book
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Book createBook(@RequestBody Book book) {
+    public BookDTO createBook(@RequestBody Book book) {
         return bookService.createBook(book);
     }
 
     // 4. Add a method to update a book by its ID
     @PutMapping("/{id}")
-    public Book updateBook(@PathVariable Long id, @RequestBody Book book) {
+    public BookDTO updateBook(@PathVariable Long id, @RequestBody Book book) {
         return bookService.updateBook(id, book);
     }
 
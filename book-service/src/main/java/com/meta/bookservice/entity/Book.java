@@ -3,6 +3,9 @@ package com.meta.bookservice.entity;
 import jakarta.persistence.Entity;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import jakarta.persistence.*;
 import java.util.Set;
@@ -10,6 +13,8 @@ import java.util.Set;
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "Book")
 public class Book {
 
@@ -31,7 +36,10 @@ public class Book {
     @JoinColumn(name = "genre_id")
     private Genre genre;
 
+    // initialised a batch at a time; fetch-joining it would stop list queries paging in SQL
     @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "Book_Author",
         joinColumns = @JoinColumn(name = "book_id"),
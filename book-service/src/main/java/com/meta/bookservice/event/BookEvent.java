@@ -0,0 +1,19 @@
+package com.meta.bookservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published to {@code book.events.topic} after a book is created, updated or deleted, so that
+ * other services can drop their cached copies.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookEvent {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private Integer bookId;
+    private Type type;
+}
@@ -0,0 +1,42 @@
+package com.meta.bookservice.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards {@link BookEvent}s to Kafka once the change that raised them has committed. Sending is
+ * best effort: a failure is logged and consumers fall back to their cache TTL.
+ */
+@Component
+@ConditionalOnProperty(name = "book.events.enabled", matchIfMissing = true)
+@Slf4j
+public class BookEventPublisher {
+    private final KafkaTemplate<String, BookEvent> kafkaTemplate;
+    private final String topic;
+
+    public BookEventPublisher(KafkaTemplate<String, BookEvent> kafkaTemplate,
+                              @Value("${book.events.topic:book-events}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(BookEvent event) {
+        try {
+            kafkaTemplate.send(topic, String.valueOf(event.getBookId()), event)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("process=publish-book-event, book_id={}, type={}, error={}",
+                                    event.getBookId(), event.getType(), e.getMessage());
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.warn("process=publish-book-event, book_id={}, type={}, error={}",
+                    event.getBookId(), event.getType(), e.getMessage());
+        }
+    }
+}
@@ -1,4 +1,33 @@
 package com.meta.bookservice.payload;
 
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read model for a book. Genre and authors are flattened to their names, so the payload is built
+ * from a column projection and never touches a lazy association.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class BookDTO {
+    private Integer id;
+    private String title;
+    private String isbn;
+    private Integer publicationYear;
+    private String genre;
+    private List<String> authors = new ArrayList<>();
+
+    // used by the JPQL constructor expressions in BookRepository; authors are filled in afterwards
+    public BookDTO(Integer id, String title, String isbn, Integer publicationYear, String genre) {
+        this.id = id;
+        this.title = title;
+        this.isbn = isbn;
+        this.publicationYear = publicationYear;
+        this.genre = genre;
+    }
 }
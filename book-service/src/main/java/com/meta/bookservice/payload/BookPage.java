@@ -0,0 +1,19 @@
+package com.meta.bookservice.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the catalogue. {@code nextCursor} is passed back as the {@code cursor} parameter
+ * to fetch the following page and is {@code null} on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookPage {
+    private List<BookDTO> items;
+    private String nextCursor;
+}
@@ -1,9 +1,58 @@
 package com.meta.bookservice.repository;
 
 import com.meta.bookservice.entity.Book;
+import com.meta.bookservice.payload.BookDTO;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @RepositoryRestResource(exported = false)
 public interface BookRepository extends JpaRepository<Book, Long> {
-}
\ No newline at end of file
+
+    // the DTO queries select only the columns BookDTO returns; authors come from findAuthorNames.
+    // Cached results are invalidated by Hibernate whenever Book, Genre, Author or Book_Author is written.
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select new com.meta.bookservice.payload.BookDTO(b.id, b.title, b.isbn, b.publicationYear, g.name)"
+            + " from Book b left join b.genre g where b.id = :id")
+    Optional<BookDTO> findDtoById(@Param("id") Integer id);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select new com.meta.bookservice.payload.BookDTO(b.id, b.title, b.isbn, b.publicationYear, g.name)"
+            + " from Book b left join b.genre g where b.id > :afterId order by b.id")
+    List<BookDTO> findDtosAfter(@Param("afterId") Integer afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select new com.meta.bookservice.payload.BookDTO(b.id, b.title, b.isbn, b.publicationYear, g.name)"
+            + " from Book b left join b.genre g where b.id in :ids")
+    List<BookDTO> findDtosByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // must be consumed inside a transaction; the fetch size keeps the driver from buffering the whole result
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.meta.bookservice.payload.BookDTO(b.id, b.title, b.isbn, b.publicationYear, g.name)"
+            + " from Book b left join b.genre g order by b.id")
+    Stream<BookDTO> streamAllDtos();
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select b.id as bookId, a.name as name from Book b join b.authors a"
+            + " where b.id in :bookIds order by a.name")
+    List<AuthorName> findAuthorNames(@Param("bookIds") Collection<Integer> bookIds);
+
+    interface AuthorName {
+        Integer getBookId();
+
+        String getName();
+    }
+}
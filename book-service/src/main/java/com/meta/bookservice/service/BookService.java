@@ -1,31 +1,130 @@
 package com.meta.bookservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meta.bookservice.entity.Book;
+import com.meta.bookservice.event.BookEvent;
+import com.meta.bookservice.payload.BookDTO;
+import com.meta.bookservice.payload.BookPage;
 import com.meta.bookservice.repository.BookRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class BookService {
+    private static final int EXPORT_CHUNK_SIZE = 100;
 
     @Autowired
     private BookRepository bookRepository;
 
-    public List<Book> getAllBooks() {
-        return bookRepository.findAll();
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${book.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${book.page.max-size:100}")
+    private int maxPageSize;
+
+    /**
+     * Returns the books after {@code cursor} in id order. Seeking past the last seen id keeps every
+     * page an index range scan, however deep the client pages. {@code size} is capped at
+     * {@code book.page.max-size}.
+     */
+    @Transactional(readOnly = true)
+    public BookPage getBooks(String cursor, Integer size) {
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        Integer afterId = cursor == null || cursor.isBlank() ? 0 : decodeCursor(cursor);
+
+        // one extra row tells us whether there is a next page without a count query
+        List<BookDTO> books = bookRepository.findDtosAfter(afterId, Limit.of(pageSize + 1));
+        String nextCursor = null;
+        if (books.size() > pageSize) {
+            books = books.subList(0, pageSize);
+            nextCursor = encodeCursor(books.get(pageSize - 1).getId());
+        }
+        return new BookPage(withAuthors(books), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public BookDTO getBookById(Long id) {
+        return findDto(id.intValue());
+    }
+
+    /**
+     * Returns the requested books in request order, skipping ids that do not exist. At most
+     * {@code book.page.max-size} ids may be requested at once.
+     */
+    @Transactional(readOnly = true)
+    public List<BookDTO> getBooksByIds(List<Long> ids) {
+        Set<Integer> uniqueIds = ids.stream().map(Long::intValue).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (uniqueIds.size() > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxPageSize + " ids can be requested at once");
+        }
+        if (uniqueIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, BookDTO> byId = withAuthors(bookRepository.findDtosByIdIn(uniqueIds)).stream()
+                .collect(Collectors.toMap(BookDTO::getId, Function.identity()));
+        return uniqueIds.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
-    public Book getBookById(Long id) {
-        return bookRepository.findById(id).orElse(null);
+    /**
+     * Writes the whole catalogue as newline-delimited JSON. Rows are read through a cursor and
+     * written a chunk at a time with one author lookup per chunk, so memory stays flat however
+     * large the catalogue is.
+     */
+    @Transactional(readOnly = true)
+    public void exportBooks(OutputStream out) throws IOException {
+        List<BookDTO> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<BookDTO> books = bookRepository.streamAllDtos()) {
+            for (BookDTO book : (Iterable<BookDTO>) books::iterator) {
+                chunk.add(book);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    writeChunk(chunk, out);
+                }
+            }
+        }
+        writeChunk(chunk, out);
+        out.flush();
     }
 
-    public Book createBook(Book book) {
-        return bookRepository.save(book);
+    /**
+     * Saves the book and returns it as {@link #getBookById} would. The genre and authors may be
+     * referenced by id only, so the response is read back from the database rather than built
+     * from the request.
+     */
+    @Transactional
+    public BookDTO createBook(Book book) {
+        Book saved = bookRepository.saveAndFlush(book);
+        eventPublisher.publishEvent(new BookEvent(saved.getId(), BookEvent.Type.CREATED));
+        return findDto(saved.getId());
     }
 
-    public Book updateBook(Long id, Book bookDetails) {
+    @Transactional
+    public BookDTO updateBook(Long id, Book bookDetails) {
         Book book = bookRepository.findById(id).orElse(null);
         if (book != null) {
             book.setTitle(bookDetails.getTitle());
@@ -33,12 +132,53 @@ public class BookService {
             book.setPublicationYear(bookDetails.getPublicationYear());
             book.setGenre(bookDetails.getGenre());
             book.setAuthors(bookDetails.getAuthors());
-            return bookRepository.save(book);
+            Book saved = bookRepository.saveAndFlush(book);
+            eventPublisher.publishEvent(new BookEvent(saved.getId(), BookEvent.Type.UPDATED));
+            return findDto(saved.getId());
         }
         return null;
     }
 
+    @Transactional
     public void deleteBook(Long id) {
         bookRepository.deleteById(id);
+        eventPublisher.publishEvent(new BookEvent(id.intValue(), BookEvent.Type.DELETED));
+    }
+
+    private BookDTO findDto(Integer id) {
+        return bookRepository.findDtoById(id)
+                .map(book -> withAuthors(List.of(book)).get(0))
+                .orElse(null);
+    }
+
+    private List<BookDTO> withAuthors(List<BookDTO> books) {
+        if (books.isEmpty()) {
+            return books;
+        }
+        Map<Integer, BookDTO> byId = books.stream()
+                .collect(Collectors.toMap(BookDTO::getId, Function.identity()));
+        bookRepository.findAuthorNames(byId.keySet())
+                .forEach(author -> byId.get(author.getBookId()).getAuthors().add(author.getName()));
+        return books;
+    }
+
+    private void writeChunk(List<BookDTO> chunk, OutputStream out) throws IOException {
+        for (BookDTO book : withAuthors(chunk)) {
+            out.write(objectMapper.writeValueAsBytes(book));
+            out.write('\n');
+        }
+        chunk.clear();
+    }
+
+    private static String encodeCursor(Integer id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Integer decodeCursor(String cursor) {
+        try {
+            return Integer.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
     }
-}
\ No newline at end of file
+}
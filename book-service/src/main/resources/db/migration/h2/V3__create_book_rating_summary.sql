@@ -0,0 +1,26 @@
+-- Running rating totals per book, maintained by review-service on every review write
+CREATE TABLE book_rating_summary (
+    book_id INT PRIMARY KEY,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1 BIGINT NOT NULL DEFAULT 0,
+    rating_2 BIGINT NOT NULL DEFAULT 0,
+    rating_3 BIGINT NOT NULL DEFAULT 0,
+    rating_4 BIGINT NOT NULL DEFAULT 0,
+    rating_5 BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (book_id) REFERENCES Book(book_id)
+);
+
+-- Backfill from the reviews written before the summary existed
+INSERT INTO book_rating_summary (book_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5)
+SELECT book_id,
+       COUNT(*),
+       SUM(rating),
+       SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END)
+FROM Review
+WHERE book_id IS NOT NULL AND rating BETWEEN 1 AND 5
+GROUP BY book_id;
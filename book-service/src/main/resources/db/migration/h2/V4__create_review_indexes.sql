@@ -0,0 +1,4 @@
+-- Review listings filter on user or book and page through review_id; with the id as the second
+-- column each page is a single index range read in cursor order
+CREATE INDEX idx_review_user_id ON Review(user_id, review_id);
+CREATE INDEX idx_review_book_id ON Review(book_id, review_id);
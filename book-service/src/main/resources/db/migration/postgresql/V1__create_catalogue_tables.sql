@@ -0,0 +1,43 @@
+-- Catalogue tables owned by book-service. Reviews and accounts live in the schemas migrated by
+-- review-service and auth-service, so their references to books are not foreign keys here.
+CREATE TABLE Author (
+    author_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL
+);
+
+CREATE TABLE Genre (
+    genre_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL
+);
+
+CREATE TABLE Book (
+    book_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    author_id INT,
+    genre_id INT REFERENCES Genre(genre_id),
+    isbn VARCHAR(20),
+    publication_year INT
+);
+
+CREATE TABLE Version (
+    version_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    book_id INT NOT NULL REFERENCES Book(book_id),
+    edition_number INT,
+    publication_date DATE,
+    format VARCHAR(50)
+);
+
+CREATE TABLE Book_Author (
+    book_id INT REFERENCES Book(book_id),
+    author_id INT REFERENCES Author(author_id),
+    PRIMARY KEY (book_id, author_id)
+);
+
+-- the primary key leads with book_id; author lookups by book are covered, this covers the reverse
+CREATE INDEX idx_book_author_author_id ON Book_Author(author_id);
+
+CREATE TABLE Summary (
+    summary_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    book_id INT REFERENCES Book(book_id),
+    content TEXT
+);
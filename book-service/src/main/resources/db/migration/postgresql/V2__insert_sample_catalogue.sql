@@ -0,0 +1,28 @@
+INSERT INTO Author (name) VALUES
+('J.K. Rowling'),
+('Stephen King'),
+('George R.R. Martin');
+
+INSERT INTO Genre (name) VALUES
+('Fantasy'),
+('Horror'),
+('Science Fiction');
+
+INSERT INTO Book (title, author_id, genre_id, isbn, publication_year) VALUES
+('Harry Potter and the Philosopher''s Stone', 1, 1, '978-0-7475-3269-6', 1997),
+('The Shining', 2, 2, '978-0-385-12167-5', 1977),
+('A Game of Thrones', 3, 1, '978-0-553-89784-5', 1996);
+
+INSERT INTO Version (book_id, edition_number, publication_date, format) VALUES
+(1, 1, '1997-06-26', 'Hardcover'),
+(2, 1, '1977-01-28', 'Paperback'),
+(3, 1, '1996-08-06', 'E-book');
+
+INSERT INTO Book_Author (book_id, author_id) VALUES
+(1, 1),
+(2, 2),
+(3, 3);
+
+INSERT INTO Summary (book_id, content) VALUES
+(1, 'The first book in the Harry Potter series.'),
+(2, 'A psychological horror novel about a haunted hotel.');
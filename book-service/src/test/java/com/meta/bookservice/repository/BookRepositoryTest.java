@@ -0,0 +1,99 @@
+package com.meta.bookservice.repository;
+
+import com.meta.bookservice.entity.Author;
+import com.meta.bookservice.entity.Book;
+import com.meta.bookservice.entity.Genre;
+import com.meta.bookservice.payload.BookDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class BookRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Statistics statistics;
+    private Integer bookId;
+
+    @BeforeEach
+    public void init() {
+        for (int i = 1; i <= 10; i++) {
+            Genre genre = new Genre();
+            genre.setName("Genre " + i);
+            Author first = new Author();
+            first.setName("Author " + i + "a");
+            Author second = new Author();
+            second.setName("Author " + i + "b");
+            Book book = new Book();
+            book.setTitle("Book " + i);
+            book.setGenre(entityManager.persist(genre));
+            book.setAuthors(Set.of(entityManager.persist(first), entityManager.persist(second)));
+            entityManager.persist(book);
+            if (bookId == null) {
+                bookId = book.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testPageWithGenresAndAuthorsLoadsInTwoStatements() {
+        // when
+        List<BookDTO> books = bookRepository.findDtosAfter(0, Limit.of(10));
+        List<BookRepository.AuthorName> authors = bookRepository.findAuthorNames(
+                books.stream().map(BookDTO::getId).toList());
+
+        // then: one for books joined to genres, one for all of their authors
+        assertThat(books).hasSize(10);
+        assertThat(books.get(0).getGenre()).isEqualTo("Genre 1");
+        assertThat(authors).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStreamSelectsBooksInOneStatement() {
+        // when
+        List<BookDTO> books;
+        try (var stream = bookRepository.streamAllDtos()) {
+            books = stream.toList();
+        }
+
+        // then
+        assertThat(books).extracting(BookDTO::getTitle).startsWith("Book 1", "Book 2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFindDtoByIdFlattensGenre() {
+        // when
+        BookDTO book = bookRepository.findDtoById(bookId).orElseThrow();
+
+        // then
+        assertThat(book.getTitle()).isEqualTo("Book 1");
+        assertThat(book.getGenre()).isEqualTo("Genre 1");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.meta.bookservice.repository;
+
+import com.meta.bookservice.entity.Genre;
+import com.meta.bookservice.payload.BookDTO;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the JPA slice on the postgres profile against an embedded PostgreSQL, so the Flyway
+ * migrations run and Hibernate validates the entities against the schema they produce.
+ */
+@DataJpaTest
+@ActiveProfiles("postgres")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PostgresMigrationTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    public void testSampleCatalogueIsMigrated() {
+        // when
+        Optional<BookDTO> book = bookRepository.findDtoById(1);
+        List<BookRepository.AuthorName> authors = bookRepository.findAuthorNames(List.of(1, 2, 3));
+
+        // then
+        assertThat(book).get().extracting(BookDTO::getTitle).isEqualTo("Harry Potter and the Philosopher's Stone");
+        assertThat(authors).extracting(BookRepository.AuthorName::getName)
+                .containsExactlyInAnyOrder("J.K. Rowling", "Stephen King", "George R.R. Martin");
+    }
+
+    @Test
+    public void testIdentityContinuesAfterSampleRows() {
+        // given
+        Genre genre = new Genre();
+        genre.setName("Mystery");
+
+        // when
+        entityManager.persistAndFlush(genre);
+
+        // then
+        assertThat(genre.getId()).isEqualTo(4);
+    }
+
+    @Test
+    public void testConnectionsUseConfiguredDriverProperties() {
+        // when
+        String applicationName = jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+
+        // then
+        assertThat(applicationName).isEqualTo("book-service");
+    }
+}
@@ -0,0 +1,131 @@
+package com.meta.bookservice.service;
+
+import com.meta.bookservice.entity.Author;
+import com.meta.bookservice.entity.Book;
+import com.meta.bookservice.entity.Genre;
+import com.meta.bookservice.payload.BookDTO;
+import com.meta.bookservice.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// not transactional, so each call commits and the cache sees it as it would in production
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BookService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class BookCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Integer bookId;
+
+    @BeforeEach
+    public void init() {
+        Book book = new Book();
+        book.setTitle("It");
+        book.setGenre(save(new Genre(), "Horror"));
+        book.setAuthors(Set.of(save(new Author(), "Stephen King")));
+        bookId = bookService.createBook(book).getId();
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    public void testRepeatedReadIsServedFromCache() {
+        // when
+        BookDTO first = bookService.getBookById(bookId.longValue());
+        long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+        BookDTO second = bookService.getBookById(bookId.longValue());
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(second.getAuthors()).containsExactly("Stephen King");
+        assertThat(statementsAfterFirstRead).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testUpdateInvalidatesCachedRead() {
+        // given
+        bookService.getBookById(bookId.longValue());
+        Book changes = new Book();
+        changes.setTitle("It (revised)");
+
+        // when
+        bookService.updateBook(bookId.longValue(), changes);
+        BookDTO book = bookService.getBookById(bookId.longValue());
+
+        // then
+        assertThat(book.getTitle()).isEqualTo("It (revised)");
+        assertThat(book.getGenre()).isNull();
+        assertThat(book.getAuthors()).isEmpty();
+    }
+
+    @Test
+    public void testDeleteInvalidatesCachedRead() {
+        // given
+        bookService.getBookById(bookId.longValue());
+
+        // when
+        bookService.deleteBook(bookId.longValue());
+
+        // then
+        assertThat(bookService.getBookById(bookId.longValue())).isNull();
+    }
+
+    private Genre save(Genre genre, String name) {
+        genre.setName(name);
+        return transactionTemplate.execute(status -> {
+            entityManager.persist(genre);
+            return genre;
+        });
+    }
+
+    private Author save(Author author, String name) {
+        author.setName(name);
+        return transactionTemplate.execute(status -> {
+            entityManager.persist(author);
+            return author;
+        });
+    }
+}
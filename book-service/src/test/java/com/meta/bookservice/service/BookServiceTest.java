@@ -0,0 +1,190 @@
+package com.meta.bookservice.service;
+
+import com.meta.bookservice.entity.Author;
+import com.meta.bookservice.entity.Book;
+import com.meta.bookservice.entity.Genre;
+import com.meta.bookservice.event.BookEvent;
+import com.meta.bookservice.payload.BookDTO;
+import com.meta.bookservice.payload.BookPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "book.page.default-size=2",
+        "book.page.max-size=3"
+})
+@Import(BookService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@RecordApplicationEvents
+public class BookServiceTest {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    public void init() {
+        Author author = new Author();
+        author.setName("J.K. Rowling");
+        entityManager.persist(author);
+        for (int i = 1; i <= 5; i++) {
+            Book book = new Book();
+            book.setTitle("Book " + i);
+            book.setAuthors(Set.of(author));
+            entityManager.persist(book);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testPagesFollowCursorUntilExhausted() {
+        List<String> titles = new ArrayList<>();
+        List<List<String>> authors = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            BookPage page = bookService.getBooks(cursor, null);
+            page.getItems().forEach(book -> {
+                titles.add(book.getTitle());
+                authors.add(book.getAuthors());
+            });
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(titles).containsExactly("Book 1", "Book 2", "Book 3", "Book 4", "Book 5");
+        assertThat(authors).containsOnly(List.of("J.K. Rowling"));
+    }
+
+    @Test
+    public void testPageSizeIsCapped() {
+        BookPage page = bookService.getBooks(null, 1000);
+
+        assertThat(page.getItems()).hasSize(3);
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() {
+        assertThatThrownBy(() -> bookService.getBooks("not a cursor!", null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    public void testGetBooksByIdsKeepsRequestOrderAndSkipsMissing() {
+        List<Integer> ids = bookService.getBooks(null, 3).getItems().stream().map(BookDTO::getId).toList();
+
+        List<BookDTO> books = bookService.getBooksByIds(List.of(ids.get(2).longValue(), 999_999L, ids.get(0).longValue()));
+
+        assertThat(books).extracting(BookDTO::getTitle).containsExactly("Book 3", "Book 1");
+        assertThat(books.get(0).getAuthors()).containsExactly("J.K. Rowling");
+    }
+
+    @Test
+    public void testGetBooksByIdsRejectsTooManyIds() {
+        assertThatThrownBy(() -> bookService.getBooksByIds(List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    public void testWritesPublishBookEvents() {
+        Book book = new Book();
+        book.setTitle("Book 6");
+        Integer id = bookService.createBook(book).getId();
+        book.setTitle("Book 6 (revised)");
+        bookService.updateBook(id.longValue(), book);
+        bookService.deleteBook(id.longValue());
+
+        assertThat(events.stream(BookEvent.class)).containsExactly(
+                new BookEvent(id, BookEvent.Type.CREATED),
+                new BookEvent(id, BookEvent.Type.UPDATED),
+                new BookEvent(id, BookEvent.Type.DELETED));
+    }
+
+    @Test
+    public void testWritesReturnGenreAndAuthorsReferencedById() {
+        Genre fantasy = new Genre();
+        fantasy.setName("Fantasy");
+        entityManager.persist(fantasy);
+        Genre mystery = new Genre();
+        mystery.setName("Mystery");
+        entityManager.persist(mystery);
+        Author author = new Author();
+        author.setName("Robert Galbraith");
+        entityManager.persist(author);
+        entityManager.flush();
+        entityManager.clear();
+
+        // the request body carries only the ids, as a client sends them
+        Book book = new Book();
+        book.setTitle("Book 6");
+        book.setGenre(genreRef(fantasy.getId()));
+        book.setAuthors(new HashSet<>(Set.of(authorRef(author.getId()))));
+        BookDTO created = bookService.createBook(book);
+
+        assertThat(created.getGenre()).isEqualTo("Fantasy");
+        assertThat(created.getAuthors()).containsExactly("Robert Galbraith");
+
+        Book update = new Book();
+        update.setTitle("Book 6 (revised)");
+        update.setGenre(genreRef(mystery.getId()));
+        update.setAuthors(new HashSet<>(Set.of(authorRef(author.getId()))));
+        BookDTO updated = bookService.updateBook(created.getId().longValue(), update);
+
+        assertThat(updated).isEqualTo(bookService.getBookById(created.getId().longValue()));
+        assertThat(updated.getGenre()).isEqualTo("Mystery");
+        assertThat(updated.getAuthors()).containsExactly("Robert Galbraith");
+    }
+
+    @Test
+    public void testExportWritesOneJsonLinePerBook() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        bookService.exportBooks(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).startsWith("{").contains("\"title\":\"Book 1\"")
+                .contains("\"authors\":[\"J.K. Rowling\"]");
+        assertThat(lines[4]).contains("\"title\":\"Book 5\"");
+    }
+
+    private static Genre genreRef(Integer id) {
+        Genre genre = new Genre();
+        genre.setId(id);
+        return genre;
+    }
+
+    private static Author authorRef(Integer id) {
+        Author author = new Author();
+        author.setId(id);
+        return author;
+    }
+}
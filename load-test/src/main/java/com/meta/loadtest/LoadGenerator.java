@@ -0,0 +1,226 @@
+package com.meta.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop load through api-gateway: each virtual user logs in once, then repeatedly picks a
+ * scenario from the {@link TrafficMix}, sends its requests one after another and waits the think
+ * time. Every request is timed on its own route, so a browse counts towards both catalogue routes.
+ *
+ * <p>With a closed loop a slow response also delays the user's next request, so under overload the
+ * percentiles understate what an open stream of clients would see; compare runs at equal user
+ * counts.
+ */
+public class LoadGenerator {
+    public static final String LOGIN = "POST /api/v1/auth/login";
+    public static final String BOOK_PAGE = "GET /api/v1/books";
+    public static final String BOOK = "GET /api/v1/books/{id}";
+    public static final String REVIEW_WRITE = "POST /api/v1/reviews";
+    private static final String PASSWORD = "load-test-password";
+    // the sample users from the H2 scripts; review-service takes the author from the request body
+    private static final int[] REVIEW_AUTHORS = {1, 2};
+
+    private final String gatewayUrl;
+    private final TrafficMix mix;
+    private final Duration thinkTime;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, RouteStats> routes = new LinkedHashMap<>();
+    private final List<VirtualUser> users = new ArrayList<>();
+    private final List<Integer> bookIds = new ArrayList<>();
+
+    public LoadGenerator(String gatewayUrl, TrafficMix mix, Duration thinkTime) {
+        this.gatewayUrl = gatewayUrl;
+        this.mix = mix;
+        this.thinkTime = thinkTime;
+        for (String route : List.of(LOGIN, BOOK_PAGE, BOOK, REVIEW_WRITE)) {
+            routes.put(route, new RouteStats(route));
+        }
+    }
+
+    /**
+     * Registers and logs in {@code userCount} users, adds {@code seedBooks} books to the catalogue
+     * and collects the ids of up to 1000 books to browse and review. Nothing here is measured.
+     */
+    public void prepare(int userCount, int seedBooks) throws IOException, InterruptedException {
+        for (int i = 0; i < userCount; i++) {
+            String username = "load-test-user-" + i;
+            // 400 when a previous run against the same deployment registered the user already
+            send(post("/auth-service/api/v1/auth/register", Map.of("name", "Load Test " + i, "username", username,
+                    "email", username + "@example.com", "password", PASSWORD), null));
+            users.add(new VirtualUser(username, login(username)));
+        }
+        String token = users.get(0).token;
+        for (int i = 0; i < seedBooks; i++) {
+            HttpResponse<String> response = send(post("/book-service/api/v1/books", Map.of(
+                    "title", "Load Test Book " + i,
+                    "isbn", String.format("978-0-%07d-0", i),
+                    "publicationYear", 1950 + i % 70,
+                    "genre", Map.of("id", i % 3 + 1)), token));
+            expectSuccess(response, "seed a book");
+        }
+        String cursor = null;
+        do {
+            HttpResponse<String> response = send(get("/book-service/api/v1/books?size=100"
+                    + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8)), token));
+            expectSuccess(response, "list the catalogue");
+            JsonNode page = objectMapper.readTree(response.body());
+            page.path("items").forEach(book -> bookIds.add(book.path("id").asInt()));
+            cursor = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+        } while (cursor != null && bookIds.size() < 1000);
+        if (bookIds.isEmpty()) {
+            throw new IllegalStateException("The catalogue is empty; nothing to browse or review");
+        }
+    }
+
+    /**
+     * Runs every prepared user for the warm-up and then the measured duration, and returns the
+     * statistics of the measured part only.
+     */
+    public Map<String, RouteStats> run(Duration warmup, Duration duration) throws InterruptedException {
+        long end = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+        List<Thread> threads = new ArrayList<>();
+        for (VirtualUser user : users) {
+            Thread thread = new Thread(() -> user.run(end), user.username);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        Thread.sleep(warmup.toMillis());
+        routes.values().forEach(RouteStats::reset);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return routes;
+    }
+
+    private class VirtualUser {
+        private final String username;
+        private String token;
+
+        VirtualUser(String username, String token) {
+            this.username = username;
+            this.token = token;
+        }
+
+        void run(long end) {
+            while (System.nanoTime() < end) {
+                try {
+                    switch (mix.next()) {
+                        case LOGIN -> token = timedLogin();
+                        case BROWSE -> browse();
+                        case REVIEW -> writeReview();
+                    }
+                    if (!thinkTime.isZero()) {
+                        Thread.sleep(thinkTime.toMillis());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private String timedLogin() throws InterruptedException {
+            HttpResponse<String> response = timed(LOGIN, loginRequest(username));
+            try {
+                return response != null && response.statusCode() == 200 ? accessToken(response) : token;
+            } catch (IOException e) {
+                return token;
+            }
+        }
+
+        private void browse() throws InterruptedException {
+            timed(BOOK_PAGE, get("/book-service/api/v1/books?size=20", token));
+            timed(BOOK, get("/book-service/api/v1/books/" + randomBookId(), token));
+        }
+
+        private void writeReview() throws InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            timed(REVIEW_WRITE, post("/review-service/api/v1/reviews", Map.of(
+                    "userId", REVIEW_AUTHORS[random.nextInt(REVIEW_AUTHORS.length)],
+                    "bookId", randomBookId(),
+                    "rating", random.nextInt(1, 6),
+                    "comment", "Written by " + username), token));
+        }
+    }
+
+    // null when the request failed without a response; that counts as an error
+    private HttpResponse<String> timed(String route, HttpRequest request) throws InterruptedException {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            routes.get(route).record(System.nanoTime() - started, response.statusCode() / 100 == 2);
+            return response;
+        } catch (IOException e) {
+            routes.get(route).record(System.nanoTime() - started, false);
+            return null;
+        }
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(loginRequest(username));
+        expectSuccess(response, "log in " + username);
+        return accessToken(response);
+    }
+
+    private HttpRequest loginRequest(String username) {
+        return post("/auth-service/api/v1/auth/login", Map.of("usernameOrEmail", username, "password", PASSWORD), null);
+    }
+
+    private String accessToken(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private int randomBookId() {
+        return bookIds.get(ThreadLocalRandom.current().nextInt(bookIds.size()));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void expectSuccess(HttpResponse<String> response, String action) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Could not " + action + ": HTTP " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body, String token) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(gatewayUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,127 @@
+package com.meta.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drives a traffic mix through api-gateway and reports requests per second and p50/p90/p99
+ * latency for each route. Without {@code --target} the gateway and the services behind it are
+ * started in this JVM by {@link LocalServices}; with it, an already running gateway is used.
+ *
+ * <p>Options, all {@code --name=value}:
+ * <ul>
+ *     <li>{@code users} (16): concurrent virtual users</li>
+ *     <li>{@code mix} ({@code login=5,browse=75,review=20}): scenario weights, see {@link Scenario}</li>
+ *     <li>{@code warmup} (15s) and {@code duration} (60s): load before and during measurement</li>
+ *     <li>{@code think-time} (0ms): pause between a user's scenarios</li>
+ *     <li>{@code seed-books} (200): books added to the local catalogue before the run</li>
+ *     <li>{@code profiles}: Spring profiles for the local services, e.g. {@code trace-log}</li>
+ *     <li>{@code target}: base URL of a running gateway</li>
+ *     <li>{@code result}: file the report is also written to as JSON</li>
+ * </ul>
+ *
+ * <p>Run from load-test with {@code mvn compile exec:exec -Dloadtest.args="--users=32 --duration=2m"}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int status = 1;
+        try {
+            run(parse(args));
+            status = 0;
+        } finally {
+            // the embedded broker and the services' pools leave non-daemon threads behind
+            System.exit(status);
+        }
+    }
+
+    private static void run(Map<String, String> options) throws Exception {
+        int users = Integer.parseInt(options.getOrDefault("users", "16"));
+        TrafficMix mix = TrafficMix.parse(options.getOrDefault("mix", "login=5,browse=75,review=20"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "15s"));
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "60s"));
+        Duration thinkTime = DurationStyle.detectAndParse(options.getOrDefault("think-time", "0ms"));
+        String target = options.get("target");
+
+        LocalServices services = target == null ? LocalServices.start(options.getOrDefault("profiles", "")) : null;
+        try {
+            String gatewayUrl = target != null ? target : services.gatewayUrl();
+            LoadGenerator generator = new LoadGenerator(gatewayUrl, mix, thinkTime);
+            generator.prepare(users, target == null ? Integer.parseInt(options.getOrDefault("seed-books", "200")) : 0);
+            System.out.printf("%nRunning %d users against %s with mix %s: %ds warm-up, %ds measured%n",
+                    users, gatewayUrl, mix, warmup.toSeconds(), duration.toSeconds());
+            Map<String, RouteStats> routes = generator.run(warmup, duration);
+
+            print(routes, duration);
+            if (options.containsKey("result")) {
+                write(new File(options.get("result")), users, mix, duration, routes);
+            }
+        } finally {
+            if (services != null) {
+                services.close();
+            }
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private static void print(Map<String, RouteStats> routes, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.printf("%n%-26s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Route", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "Max ms");
+        for (RouteStats stats : routes.values()) {
+            if (stats.getRequests() == 0) {
+                continue;
+            }
+            System.out.printf("%-26s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", stats.getRoute(), stats.getRequests(),
+                    stats.getErrors(), stats.getRequests() / seconds, stats.percentileMillis(50),
+                    stats.percentileMillis(90), stats.percentileMillis(99), stats.maxMillis());
+        }
+    }
+
+    private static void write(File file, int users, TrafficMix mix, Duration duration, Map<String, RouteStats> routes)
+            throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        List<Map<String, Object>> results = routes.values().stream()
+                .filter(stats -> stats.getRequests() > 0)
+                .map(stats -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("route", stats.getRoute());
+                    result.put("requests", stats.getRequests());
+                    result.put("errors", stats.getErrors());
+                    result.put("requestsPerSecond", stats.getRequests() / seconds);
+                    result.put("p50Ms", stats.percentileMillis(50));
+                    result.put("p90Ms", stats.percentileMillis(90));
+                    result.put("p99Ms", stats.percentileMillis(99));
+                    result.put("maxMs", stats.maxMillis());
+                    return result;
+                })
+                .toList();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", users);
+        report.put("mix", mix.toString());
+        report.put("durationSeconds", seconds);
+        report.put("routes", results);
+        file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.printf("%nReport written to %s%n", file);
+    }
+}
@@ -0,0 +1,150 @@
+package com.meta.loadtest;
+
+import com.meta.apigateway.ApiGatewayApplication;
+import com.meta.authservice.AuthServiceApplication;
+import com.meta.bookservice.BookServiceApplication;
+import com.meta.reviewservice.ReviewServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs book-service, auth-service, review-service and api-gateway in this JVM, each in its own
+ * application context with its own {@code application.properties} and a random port. They share
+ * one in-memory H2 database with the schema from book-service's H2 scripts and an embedded Kafka
+ * broker. Eureka is replaced by Spring Cloud's simple discovery client: every service is told the
+ * address of the ones started before it, which is why the gateway starts last.
+ *
+ * <p>The services' jars all sit on one classpath here, so each context switches off the
+ * auto-configuration it only picks up from another service's dependencies.
+ */
+public class LocalServices implements AutoCloseable {
+    private static final String DATABASE_URL = "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1";
+    private static final String[] SCHEMA = {
+            "db/migration/h2/V1__create_tables.sql",
+            "db/migration/h2/V2__insert_sample_data.sql",
+            "db/migration/h2/V3__create_book_rating_summary.sql",
+            "db/migration/h2/V4__create_review_indexes.sql"
+    };
+    // book-service and review-service run without Spring Security, but auth-service brings it along
+    private static final String SERVLET_SECURITY = "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+            + "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration";
+    // the gateway has no database, and no Spring Data REST for springdoc to describe
+    private static final String GATEWAY = "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+            + "org.springdoc.core.configuration.SpringDocDataRestConfiguration";
+
+    private final EmbeddedKafkaBroker kafka;
+    private final String profiles;
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private final Map<String, String> instances = new LinkedHashMap<>();
+
+    private LocalServices(EmbeddedKafkaBroker kafka, String profiles) {
+        this.kafka = kafka;
+        this.profiles = profiles;
+    }
+
+    /**
+     * @param profiles comma separated Spring profiles to activate in every service, e.g.
+     *                 {@code trace-log}; may be empty
+     */
+    public static LocalServices start(String profiles) throws IOException {
+        EmbeddedKafkaBroker kafka = new EmbeddedKafkaKraftBroker(1, 3, "book-events", "review-events", "review-ingestion")
+                .kafkaPorts(0);
+        kafka.afterPropertiesSet();
+        LocalServices services = new LocalServices(kafka, profiles);
+        try {
+            services.createSchema();
+            services.boot("book-service", BookServiceApplication.class, WebApplicationType.SERVLET,
+                    "--spring.autoconfigure.exclude=" + SERVLET_SECURITY);
+            services.boot("auth-service", AuthServiceApplication.class, WebApplicationType.SERVLET);
+            services.boot("review-service", ReviewServiceApplication.class, WebApplicationType.SERVLET,
+                    "--spring.autoconfigure.exclude=" + SERVLET_SECURITY,
+                    "--spring.kafka.streams.state-dir=" + Files.createTempDirectory("review-service-streams"));
+            services.boot("api-gateway", ApiGatewayApplication.class, WebApplicationType.REACTIVE,
+                    "--spring.autoconfigure.exclude=" + GATEWAY,
+                    "--spring.cloud.gateway.enabled=true");
+        } catch (RuntimeException | IOException e) {
+            services.close();
+            throw e;
+        }
+        return services;
+    }
+
+    public String gatewayUrl() {
+        return instances.get("api-gateway");
+    }
+
+    private void createSchema() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        for (String script : SCHEMA) {
+            populator.addScript(new ClassPathResource(script));
+        }
+        populator.execute(new DriverManagerDataSource(DATABASE_URL, "sa", ""));
+    }
+
+    private void boot(String serviceId, Class<?> application, WebApplicationType type, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.location=" + serviceProperties(application),
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                // several services turn security logging up to DEBUG, which would log every request
+                "--logging.level.org.springframework.security=WARN",
+                "--eureka.client.enabled=false",
+                "--spring.datasource.url=" + DATABASE_URL,
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never",
+                "--spring.flyway.enabled=false",
+                "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                "--spring.cloud.gateway.enabled=false",
+                "--spring.profiles.active=" + profiles));
+        instances.forEach((id, uri) -> args.add("--spring.cloud.discovery.client.simple.instances." + id + "[0].uri=" + uri));
+        args.addAll(List.of(extraArgs));
+
+        long started = System.nanoTime();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                .web(type)
+                .run(args.toArray(String[]::new));
+        contexts.add(context);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        instances.put(serviceId, "http://localhost:" + port);
+        System.out.printf("%s started on port %d in %d ms%n", serviceId, port, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // every service jar on the classpath has an application.properties; load the service's own
+    // (and the gateway's application.yml, which holds its routes)
+    private static String serviceProperties(Class<?> application) {
+        URL root = application.getProtectionDomain().getCodeSource().getLocation();
+        String base = root.getPath().endsWith(".jar") ? "jar:" + root + "!/" : root.toString();
+        return "optional:" + base + "application.yml," + base + "application.properties";
+    }
+
+    @Override
+    public void close() {
+        // gateway first, so nothing routes to a service that is already down
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+        kafka.destroy();
+    }
+}
@@ -0,0 +1,54 @@
+package com.meta.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies (in microseconds, 3 significant digits) and failures of one route, recorded by all
+ * virtual users at once.
+ */
+public class RouteStats {
+    private final String route;
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final AtomicLong errors = new AtomicLong();
+
+    public RouteStats(String route) {
+        this.route = route;
+    }
+
+    public void record(long nanos, boolean success) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    // drops what was recorded during the warm-up
+    public void reset() {
+        latencies.reset();
+        errors.set(0);
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public long getRequests() {
+        return latencies.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+}
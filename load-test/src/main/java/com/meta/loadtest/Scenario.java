@@ -0,0 +1,14 @@
+package com.meta.loadtest;
+
+/**
+ * What one iteration of a virtual user does; see {@link LoadGenerator} for the requests each
+ * scenario sends.
+ */
+public enum Scenario {
+    // log in again with the user's credentials
+    LOGIN,
+    // read a catalogue page, then one book from it
+    BROWSE,
+    // write a review of a random book
+    REVIEW
+}
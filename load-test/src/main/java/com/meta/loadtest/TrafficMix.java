@@ -0,0 +1,69 @@
+package com.meta.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Relative weights of the scenarios, parsed from a spec such as {@code login=5,browse=75,review=20}.
+ * Scenarios left out of the spec are not run.
+ */
+public class TrafficMix {
+    private final Map<Scenario, Integer> weights;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final int[] cumulative;
+
+    private TrafficMix(Map<Scenario, Integer> weights) {
+        this.weights = weights;
+        this.cumulative = new int[weights.size()];
+        int total = 0;
+        for (Map.Entry<Scenario, Integer> weight : weights.entrySet()) {
+            total += weight.getValue();
+            cumulative[scenarios.size()] = total;
+            scenarios.add(weight.getKey());
+        }
+    }
+
+    public static TrafficMix parse(String spec) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected scenario=weight in the mix, got: " + part);
+            }
+            Scenario scenario = Scenario.valueOf(pair[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + scenario);
+            }
+            if (weight > 0) {
+                weights.put(scenario, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no scenario with a positive weight: " + spec);
+        }
+        return new TrafficMix(weights);
+    }
+
+    public Scenario next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .map(weight -> weight.getKey().name().toLowerCase(Locale.ROOT) + "=" + weight.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
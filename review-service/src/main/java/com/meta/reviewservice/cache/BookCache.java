@@ -0,0 +1,117 @@
+package com.meta.reviewservice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.meta.reviewservice.dto.BookDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Local copy of the books review-service has looked up. Known books are kept for
+ * {@code book.cache.ttl}; ids book-service does not know are remembered as absent for the shorter
+ * {@code book.cache.negative-ttl}. Entries are dropped early when book-service publishes a change.
+ *
+ * <p>Every book seen is also kept in a larger stale view that does not expire. When book-service
+ * cannot be reached, the stale copy is served instead of failing the read.
+ */
+@Component
+@Slf4j
+public class BookCache {
+    public static final String CACHE_NAME = "review.book.cache";
+
+    private final AsyncCache<Long, Optional<BookDto>> books;
+    private final Cache<Long, BookDto> staleBooks;
+
+    @Autowired
+    public BookCache(@Value("${book.cache.ttl:10m}") Duration ttl,
+                     @Value("${book.cache.negative-ttl:30s}") Duration negativeTtl,
+                     @Value("${book.cache.max-size:10000}") long maxSize,
+                     MeterRegistry meterRegistry) {
+        this(ttl, negativeTtl, maxSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    BookCache(Duration ttl, Duration negativeTtl, long maxSize, MeterRegistry meterRegistry, Ticker ticker) {
+        this.books = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Optional<BookDto>>() {
+                    @Override
+                    public long expireAfterCreate(Long bookId, Optional<BookDto> book, long currentTime) {
+                        return (book.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long bookId, Optional<BookDto> book, long currentTime, long currentDuration) {
+                        return expireAfterCreate(bookId, book, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long bookId, Optional<BookDto> book, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        this.staleBooks = Caffeine.newBuilder()
+                .maximumSize(maxSize * 2)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, books.synchronous(), CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached book, loading it through {@code loader} on a miss. {@code null} means
+     * book-service has no such book. If the loader fails and the book has been seen before, the
+     * last known copy is returned instead.
+     *
+     * <p>The loader only has to start the lookup. Its future is registered under the cache's lock
+     * and waited for outside it, so concurrent readers of the same book share one lookup and a
+     * virtual thread waiting on book-service does not hold on to its carrier thread.
+     */
+    public BookDto get(Long bookId, Function<Long, CompletableFuture<BookDto>> loader) {
+        try {
+            return books.get(bookId, (id, executor) -> loader.apply(id).thenApply(book -> {
+                if (book != null) {
+                    staleBooks.put(id, book);
+                }
+                return Optional.ofNullable(book);
+            })).join().orElse(null);
+        } catch (RuntimeException e) {
+            RuntimeException cause = e instanceof CompletionException && e.getCause() instanceof RuntimeException failure
+                    ? failure : e;
+            BookDto stale = staleBooks.getIfPresent(bookId);
+            if (stale == null) {
+                throw cause;
+            }
+            log.warn("process=get-book, book_id={}, serving=stale, error={}", bookId, cause.getMessage());
+            return stale;
+        }
+    }
+
+    public Optional<BookDto> getStale(Long bookId) {
+        return Optional.ofNullable(staleBooks.getIfPresent(bookId));
+    }
+
+    // the book changed: the next read goes back to book-service, the old copy stays as a stale fallback
+    public void invalidate(Long bookId) {
+        books.synchronous().invalidate(bookId);
+    }
+
+    // the book is gone: forget it entirely
+    public void evict(Long bookId) {
+        books.synchronous().invalidate(bookId);
+        staleBooks.invalidate(bookId);
+    }
+}
@@ -0,0 +1,129 @@
+package com.meta.reviewservice.client;
+
+import com.meta.reviewservice.dto.BookDto;
+import io.micrometer.context.ContextScheduledExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Merges single-book lookups into batched {@link BookServiceClient#getBooksByIds} calls. The first
+ * lookup of a batch opens a short window ({@code book.lookup.window}); every lookup arriving
+ * within it, or until {@code book.lookup.max-batch-size} ids are waiting, shares one round trip.
+ * Concurrent lookups of the same id share a single result.
+ *
+ * <p>The batched call runs in the trace of the lookup that opened the batch (or filled it); the
+ * other requests in the batch only see the time they waited for it.
+ */
+@Component
+@Slf4j
+public class BookLookupCoalescer {
+    private final BookServiceClient bookServiceClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    // guarded by this
+    private Map<Long, CompletableFuture<BookDto>> pending = new LinkedHashMap<>();
+
+    public BookLookupCoalescer(BookServiceClient bookServiceClient,
+                               @Value("${book.lookup.window:5ms}") Duration window,
+                               @Value("${book.lookup.max-batch-size:100}") int maxBatchSize,
+                               @Value("${book.lookup.threads:4}") int threads) {
+        this.bookServiceClient = bookServiceClient;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+        this.scheduler = ContextScheduledExecutorService.wrap(
+                Executors.newScheduledThreadPool(threads, new CustomizableThreadFactory("book-lookup-")),
+                snapshots::captureAll);
+    }
+
+    /**
+     * Looks up a book, waiting for the batch it joins. Returns {@code null} when book-service has no
+     * such book.
+     */
+    public BookDto getBookById(Long bookId) {
+        try {
+            return lookup(bookId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<BookDto> lookup(Long bookId) {
+        Map<Long, CompletableFuture<BookDto>> fullBatch = null;
+        CompletableFuture<BookDto> result;
+        synchronized (this) {
+            result = pending.get(bookId);
+            if (result != null) {
+                return result;
+            }
+            result = new CompletableFuture<>();
+            pending.put(bookId, result);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (pending.size() == 1) {
+                scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            Map<Long, CompletableFuture<BookDto>> batch = fullBatch;
+            scheduler.execute(() -> fetch(batch));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<BookDto>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        // an earlier full batch may already have taken everything this timer was opened for
+        if (!batch.isEmpty()) {
+            fetch(batch);
+        }
+    }
+
+    private Map<Long, CompletableFuture<BookDto>> drain() {
+        Map<Long, CompletableFuture<BookDto>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void fetch(Map<Long, CompletableFuture<BookDto>> batch) {
+        log.debug("process=get-books-by-ids, batch_size={}", batch.size());
+        try {
+            List<BookDto> books = bookServiceClient.getBooksByIds(List.copyOf(batch.keySet()));
+            Map<Long, BookDto> byId = books.stream()
+                    .collect(Collectors.toMap(BookDto::getId, Function.identity(), (first, second) -> first));
+            batch.forEach((bookId, result) -> result.complete(byId.get(bookId)));
+        } catch (RuntimeException e) {
+            log.warn("process=get-books-by-ids, batch_size={}, error={}", batch.size(), e.getMessage());
+            batch.values().forEach(result -> result.completeExceptionally(e));
+        }
+    }
+}
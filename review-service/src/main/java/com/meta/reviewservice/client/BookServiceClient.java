@@ -5,9 +5,16 @@ import com.meta.reviewservice.dto.BookDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "book-service", fallback= BookServiceFallback.class)
 public interface BookServiceClient {
     @GetMapping("/api/v1/books/{bookId}")
     BookDto getBookById(@PathVariable("bookId") Long bookId);
+
+    @GetMapping("/api/v1/books")
+    List<BookDto> getBooksByIds(@RequestParam("ids") Collection<Long> ids);
 }
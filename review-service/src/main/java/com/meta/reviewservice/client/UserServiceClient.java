@@ -0,0 +1,15 @@
+package com.meta.reviewservice.client;
+
+import com.meta.reviewservice.dto.UserDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "user-service")
+public interface UserServiceClient {
+    @GetMapping("/api/v1/users")
+    List<UserDto> getUsersByIds(@RequestParam("ids") Collection<Long> ids);
+}
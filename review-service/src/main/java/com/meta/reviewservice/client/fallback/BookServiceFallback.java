@@ -1,19 +1,40 @@
 package com.meta.reviewservice.client.fallback;
 
+import com.meta.reviewservice.cache.BookCache;
 import com.meta.reviewservice.client.BookServiceClient;
 import com.meta.reviewservice.dto.BookDto;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 @Component
 public class BookServiceFallback implements BookServiceClient {
+    private final BookCache bookCache;
+
+    public BookServiceFallback(BookCache bookCache) {
+        this.bookCache = bookCache;
+    }
 
     @Override
     public BookDto getBookById(Long bookId) {
-        // Fallback logic: return a default BookDto or handle the failure gracefully
-        BookDto fallbackBook = new BookDto();
-        fallbackBook.setId(bookId);
-        fallbackBook.setTitle("Default Title");
-        fallbackBook.setAuthor("Default Author");
-        return fallbackBook;
+        // Fallback logic: serve the last copy we saw, and only a placeholder for a book never seen
+        return bookCache.getStale(bookId).orElseGet(() -> {
+            BookDto fallbackBook = new BookDto();
+            fallbackBook.setId(bookId);
+            fallbackBook.setTitle("Default Title");
+            fallbackBook.setAuthor("Default Author");
+            return fallbackBook;
+        });
+    }
+
+    /**
+     * Fails rather than answering: the batch result is cached as book-service's answer, so a
+     * placeholder would be stored as a real book. {@link BookCache} serves the stale copies itself
+     * when the lookup fails, and ids it has never seen resolve as a failed lookup.
+     */
+    @Override
+    public List<BookDto> getBooksByIds(Collection<Long> ids) {
+        throw new IllegalStateException("book-service is unavailable");
     }
 }
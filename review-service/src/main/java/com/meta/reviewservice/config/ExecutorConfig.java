@@ -0,0 +1,45 @@
+package com.meta.reviewservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // the remote parts of a book detail block on Feign calls; with virtual threads each gets its own.
+    // Both executors carry the caller's trace over, so those calls stay in the request's trace.
+    @Bean("bookDetailExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor bookDetailVirtualExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("book-detail-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
+
+    @Bean("bookDetailExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor bookDetailExecutor(@Value("${review.detail.threads:16}") int threads,
+                                       @Value("${review.detail.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("book-detail-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // a timed-out Feign call keeps its thread until it returns, so a slow service would otherwise
+        // grow the queue without bound; when it is full the part is rejected and left out at once
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+}
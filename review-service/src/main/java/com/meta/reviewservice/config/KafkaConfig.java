@@ -0,0 +1,35 @@
+package com.meta.reviewservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.dto.ReviewEventDto;
+import com.meta.reviewservice.stream.ReviewRankingTopology;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.KStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+@EnableKafkaStreams
+public class KafkaConfig {
+
+    // created on start-up when the broker is reachable; the topology cannot start without its source topic
+    @Bean
+    public NewTopic reviewIngestionTopic(@Value("${review.ingestion.topic:review-ingestion}") String topic) {
+        return TopicBuilder.name(topic).partitions(3).build();
+    }
+
+    @Bean
+    public NewTopic reviewEventsTopic(@Value("${review.events.topic:review-events}") String topic) {
+        return TopicBuilder.name(topic).partitions(3).build();
+    }
+
+    @Bean
+    public KStream<String, ReviewEventDto> reviewRankingStream(StreamsBuilder streamsBuilder, ObjectMapper objectMapper,
+                                                               @Value("${review.events.topic:review-events}") String topic) {
+        return ReviewRankingTopology.build(streamsBuilder, topic, objectMapper);
+    }
+}
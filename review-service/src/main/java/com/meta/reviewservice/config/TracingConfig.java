@@ -0,0 +1,22 @@
+package com.meta.reviewservice.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Span exporter for local runs: with the "trace-log" profile every finished span is written to
+ * the log. The OTLP exporter is configured by Spring Boot once {@code management.otlp.tracing.endpoint}
+ * is set, as the "tracing" profile does; both can be active together.
+ */
+@Configuration
+@Profile("trace-log")
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
@@ -0,0 +1,30 @@
+package com.meta.reviewservice.controller;
+
+import com.meta.reviewservice.dto.BookDetailDto;
+import com.meta.reviewservice.service.BookDetailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/reviews/book")
+@Slf4j
+public class BookDetailController {
+    private final BookDetailService bookDetailService;
+    private final RequestLogSampler requestLog;
+
+    public BookDetailController(BookDetailService bookDetailService, RequestLogSampler requestLog) {
+        this.bookDetailService = bookDetailService;
+        this.requestLog = requestLog;
+    }
+
+    // Return a book with its rating, first reviews and reviewers in one response
+    @GetMapping("/{bookId}/detail")
+    @ResponseStatus(HttpStatus.OK)
+    public BookDetailDto getBookDetail(@PathVariable Long bookId, @RequestParam(required = false) Integer reviews) {
+        if (requestLog.sample(log)) {
+            log.info("process=get-book-detail, book_id={}", bookId);
+        }
+        return bookDetailService.getBookDetail(bookId, reviews);
+    }
+}
@@ -0,0 +1,28 @@
+package com.meta.reviewservice.controller;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks which calls of a hot read endpoint write their INFO request line: one in
+ * {@code request-log.sample-rate}, chosen at random so concurrent requests do not contend on a
+ * shared counter. Writes are always logged, and so is every call while DEBUG is on for the logger.
+ */
+@Component
+public class RequestLogSampler {
+    private final int rate;
+
+    public RequestLogSampler(@Value("${request-log.sample-rate:1}") int rate) {
+        this.rate = Math.max(1, rate);
+    }
+
+    public boolean sample(Logger log) {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        return rate == 1 || log.isDebugEnabled() || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+}
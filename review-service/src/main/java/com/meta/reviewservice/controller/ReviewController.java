@@ -1,18 +1,34 @@
 package com.meta.reviewservice.controller;
 
-import com.meta.reviewservice.client.BookServiceClient;
+import com.meta.reviewservice.cache.BookCache;
+import com.meta.reviewservice.client.BookLookupCoalescer;
 import com.meta.reviewservice.converter.ReviewMapper;
+import com.meta.reviewservice.converter.ReviewPager;
 import com.meta.reviewservice.dto.BookDto;
+import com.meta.reviewservice.dto.BookRatingDto;
 import com.meta.reviewservice.dto.ReviewDto;
+import com.meta.reviewservice.dto.TopRatedBookDto;
+import com.meta.reviewservice.event.ReviewIngestionPublisher;
 import com.meta.reviewservice.exception.EntityNotFoundException;
+import com.meta.reviewservice.payload.ReviewFileFormat;
+import com.meta.reviewservice.payload.ReviewImportReport;
+import com.meta.reviewservice.payload.ReviewPage;
 import com.meta.reviewservice.payload.ReviewRequest;
+import com.meta.reviewservice.service.ReviewBulkService;
 import com.meta.reviewservice.service.ReviewService;
+import com.meta.reviewservice.stream.TopRatedBooksService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,33 +38,80 @@ import java.util.Optional;
 public class ReviewController {
     private ReviewService reviewService;
     private ReviewMapper reviewMapper;
-    private BookServiceClient bookServiceClient;
+    private BookLookupCoalescer bookLookupCoalescer;
+    private BookCache bookCache;
+    private ReviewIngestionPublisher reviewIngestionPublisher;
+    private TopRatedBooksService topRatedBooksService;
+    private ReviewBulkService reviewBulkService;
+    private ReviewPager reviewPager;
+    // the read endpoints below log a sample of their calls
+    private RequestLogSampler requestLog;
+
     @Autowired
-    public ReviewController(ReviewService reviewService, ReviewMapper reviewMapper, BookServiceClient bookServiceClient) {
+    public ReviewController(ReviewService reviewService, ReviewMapper reviewMapper,
+                            BookLookupCoalescer bookLookupCoalescer, BookCache bookCache,
+                            ReviewIngestionPublisher reviewIngestionPublisher, TopRatedBooksService topRatedBooksService,
+                            ReviewBulkService reviewBulkService, ReviewPager reviewPager,
+                            RequestLogSampler requestLog) {
         this.reviewService = reviewService;
         this.reviewMapper = reviewMapper;
-        this.bookServiceClient = bookServiceClient;
+        this.bookLookupCoalescer = bookLookupCoalescer;
+        this.bookCache = bookCache;
+        this.reviewIngestionPublisher = reviewIngestionPublisher;
+        this.topRatedBooksService = topRatedBooksService;
+        this.reviewBulkService = reviewBulkService;
+        this.reviewPager = reviewPager;
+        this.requestLog = requestLog;
     }
 
     // 1. Add a method to return all reviews
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<ReviewDto> getReviews() {
-        log.info("process=get-reviews");
-        return reviewMapper.toDto(reviewService.getAllReviews());
+    public ReviewPage getReviews(@RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) Integer size) {
+        if (requestLog.sample(log)) {
+            log.info("process=get-reviews, cursor={}", cursor);
+        }
+        return reviewPager.page(cursor, size, reviewService::getReviews);
     }
     // 2. Add a method to create a new review
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ReviewDto createReview(@RequestBody @Valid ReviewRequest reviewRequest) {
-        log.info("process=create-review, review={}", reviewRequest);
+        log.info("process=create-review, book_id={}, user_id={}", reviewRequest.getBookId(), reviewRequest.getUserId());
         return reviewMapper.toDto(reviewService.addReview(reviewMapper.toEntity(reviewRequest)));
     }
+    // Accept a review for asynchronous ingestion; it is written shortly after the 202
+    @PostMapping("/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void createReviewAsync(@RequestBody @Valid ReviewRequest reviewRequest) {
+        log.info("process=accept-review, book_id={}", reviewRequest.getBookId());
+        reviewIngestionPublisher.publish(reviewRequest);
+    }
+    // Import reviews from newline-delimited JSON or CSV; rejected rows are listed in the report
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ReviewFileFormat.CSV_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public ReviewImportReport importReviews(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                            InputStream body) throws IOException {
+        log.info("process=import-reviews, content_type={}", contentType);
+        return reviewBulkService.importReviews(body, ReviewFileFormat.of(contentType));
+    }
+    // Export every review as newline-delimited JSON or CSV
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReviews(@RequestParam(defaultValue = "ndjson") String format) {
+        log.info("process=export-reviews, format={}", format);
+        ReviewFileFormat fileFormat = ReviewFileFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(fileFormat.getMediaType())
+                .body(out -> reviewBulkService.exportReviews(out, fileFormat));
+    }
     // 3. Add a method to return a review by its ID
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ReviewDto getReviewById(@PathVariable Long id) {
-        log.info("process=get-review, review_id={}", id);
+        if (requestLog.sample(log)) {
+            log.info("process=get-review, review_id={}", id);
+        }
         return Optional.ofNullable(reviewService.getReviewById(id))
                 .map(review -> reviewMapper.toDto(review))
                 .orElseThrow(() -> new EntityNotFoundException("Review not found"));
@@ -69,24 +132,53 @@ public class ReviewController {
         log.info("process=delete-review, review_id={}", id);
         Optional.ofNullable(reviewService.getReviewById(id))
                 .orElseThrow(() -> new EntityNotFoundException("Review not found"));
+        reviewService.deleteReview(id);
     }
 
     // 6. Add a method to return all reviews by user ID
     @GetMapping("/user/{userId}")
     @ResponseStatus(HttpStatus.OK)
-    public List<ReviewDto> getReviewsByUserId(@PathVariable Long userId) {
-        log.info("process=get-reviews-by-user-id, user_id={}", userId);
-        return reviewMapper.toDto(reviewService.getReviewsByUserId(userId));
+    public ReviewPage getReviewsByUserId(@PathVariable Long userId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size) {
+        if (requestLog.sample(log)) {
+            log.info("process=get-reviews-by-user-id, user_id={}, cursor={}", userId, cursor);
+        }
+        return reviewPager.page(cursor, size, (afterId, limit) -> reviewService.getReviewsByUserId(userId, afterId, limit));
     }
 
     // 7. Add a method to return all reviews by book ID
     @GetMapping("/book/{bookId}")
     @ResponseStatus(HttpStatus.OK)
-    public List<ReviewDto> getReviewsByBookId(@PathVariable Long bookId) {
-        log.info("process=get-reviews-by-book-id, book_id={}", bookId);
-        BookDto bookDto = Optional.ofNullable(this.bookServiceClient.getBookById(bookId))
+    public ReviewPage getReviewsByBookId(@PathVariable Long bookId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size) {
+        if (requestLog.sample(log)) {
+            log.info("process=get-reviews-by-book-id, book_id={}, cursor={}", bookId, cursor);
+        }
+        BookDto bookDto = Optional.ofNullable(this.bookCache.get(bookId, bookLookupCoalescer::lookup))
                 .orElseThrow(() -> new EntityNotFoundException("Book not found"));
 
-        return reviewService.getReviewsByBookId(bookId).stream().map(reviewMapper::toDto).toList();
+        return reviewPager.page(cursor, size, (afterId, limit) -> reviewService.getReviewsByBookId(bookId, afterId, limit));
+    }
+
+    // 8. Add a method to return the rating summary of a book
+    @GetMapping("/book/{bookId}/rating")
+    @ResponseStatus(HttpStatus.OK)
+    public BookRatingDto getBookRating(@PathVariable Long bookId) {
+        if (requestLog.sample(log)) {
+            log.info("process=get-book-rating, book_id={}", bookId);
+        }
+        return reviewMapper.toDto(reviewService.getRatingSummary(bookId));
+    }
+
+    // 9. Add a method to return the highest rated books of the last week
+    @GetMapping("/top-rated")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TopRatedBookDto> getTopRatedBooks(@RequestParam(defaultValue = "10") int limit) {
+        if (requestLog.sample(log)) {
+            log.info("process=get-top-rated-books, limit={}", limit);
+        }
+        return topRatedBooksService.getTopRated(Math.max(1, Math.min(limit, 100)));
     }
 }
@@ -1,12 +1,16 @@
 package com.meta.reviewservice.converter;
 
+import com.meta.reviewservice.dto.BookRatingDto;
 import com.meta.reviewservice.dto.ReviewDto;
+import com.meta.reviewservice.entity.BookRatingSummary;
 import com.meta.reviewservice.entity.Review;
 import com.meta.reviewservice.payload.ReviewRequest;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Mapper(componentModel = "spring")
 public interface ReviewMapper
@@ -17,4 +21,18 @@ public interface ReviewMapper
     List<ReviewDto> toDto(List<Review> reviews);
     List<Review> toEntity(List<ReviewDto> reviewDtos);
     Review toEntity(ReviewRequest reviewRequest);
+
+    default BookRatingDto toDto(BookRatingSummary summary) {
+        BookRatingDto ratingDto = new BookRatingDto();
+        ratingDto.setBookId(summary.getBookId());
+        ratingDto.setCount(summary.getReviewCount());
+        ratingDto.setMean(summary.getMean());
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        long[] counts = summary.getHistogram();
+        for (int rating = BookRatingSummary.MIN_RATING; rating <= BookRatingSummary.MAX_RATING; rating++) {
+            histogram.put(rating, counts[rating - BookRatingSummary.MIN_RATING]);
+        }
+        ratingDto.setHistogram(histogram);
+        return ratingDto;
+    }
 }
\ No newline at end of file
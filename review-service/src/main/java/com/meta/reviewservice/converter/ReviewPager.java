@@ -0,0 +1,61 @@
+package com.meta.reviewservice.converter;
+
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.payload.ReviewPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Turns keyset queries over review ids into {@link ReviewPage}s. The cursor is the last review id
+ * of the previous page; one extra row is fetched to tell whether another page follows.
+ */
+@Component
+public class ReviewPager {
+    private final ReviewMapper reviewMapper;
+
+    @Value("${review.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${review.page.max-size:100}")
+    private int maxPageSize;
+
+    public ReviewPager(ReviewMapper reviewMapper) {
+        this.reviewMapper = reviewMapper;
+    }
+
+    /**
+     * Reads the page after {@code cursor}. {@code query} receives the id to seek past and the
+     * number of rows to read; {@code size} is capped at {@code review.page.max-size}.
+     */
+    public ReviewPage page(String cursor, Integer size, BiFunction<Integer, Integer, List<Review>> query) {
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        Integer afterId = cursor == null || cursor.isBlank() ? 0 : decodeCursor(cursor);
+
+        List<Review> reviews = query.apply(afterId, pageSize + 1);
+        String nextCursor = null;
+        if (reviews.size() > pageSize) {
+            reviews = reviews.subList(0, pageSize);
+            nextCursor = encodeCursor(reviews.get(pageSize - 1).getReviewId());
+        }
+        return new ReviewPage(reviewMapper.toDto(reviews), nextCursor);
+    }
+
+    private static String encodeCursor(Integer id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Integer decodeCursor(String cursor) {
+        try {
+            return Integer.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
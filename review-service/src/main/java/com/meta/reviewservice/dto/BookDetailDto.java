@@ -0,0 +1,24 @@
+package com.meta.reviewservice.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class BookDetailDto {
+    private BookDto book;
+    private BookRatingDto rating;
+    private List<ReviewDto> reviews;
+    // pass as the cursor of /api/v1/reviews/book/{bookId} for the following reviews
+    private String nextReviewsCursor;
+    // user id -> reviewer, for the reviews above
+    private Map<Long, UserDto> reviewers;
+    // parts that could not be loaded in time ("book", "reviewers"); the rest of the document is complete
+    private List<String> unavailable = new ArrayList<>();
+}
@@ -0,0 +1,15 @@
+package com.meta.reviewservice.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class BookEventDto {
+    public static final String DELETED = "DELETED";
+
+    private Long bookId;
+    private String type;
+}
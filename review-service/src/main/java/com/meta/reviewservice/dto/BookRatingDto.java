@@ -0,0 +1,18 @@
+package com.meta.reviewservice.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class BookRatingDto {
+    private long bookId;
+    private long count;
+    private double mean;
+    // rating (1-5) -> number of reviews with that rating
+    private Map<Integer, Long> histogram;
+}
@@ -0,0 +1,25 @@
+package com.meta.reviewservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class RatingAggregateDto {
+    private long count;
+    private long sum;
+
+    public RatingAggregateDto add(int rating) {
+        count++;
+        sum += rating;
+        return this;
+    }
+
+    @JsonIgnore
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+}
@@ -0,0 +1,15 @@
+package com.meta.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ReviewEventDto {
+    private Long bookId;
+    private Integer rating;
+}
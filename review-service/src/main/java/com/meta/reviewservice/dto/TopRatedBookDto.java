@@ -0,0 +1,16 @@
+package com.meta.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TopRatedBookDto {
+    private long bookId;
+    private long count;
+    private double mean;
+}
@@ -0,0 +1,14 @@
+package com.meta.reviewservice.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class UserDto {
+    private Long id;
+    private String name;
+    private String username;
+}
@@ -0,0 +1,73 @@
+package com.meta.reviewservice.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running rating totals for one book, kept in step with its reviews by {@code ReviewServiceImpl}
+ * so that reading an average never scans the reviews.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "book_rating_summary")
+public class BookRatingSummary {
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    @Id
+    @Column(name = "book_id")
+    private Integer bookId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    public BookRatingSummary(Integer bookId) {
+        this.bookId = bookId;
+    }
+
+    public static boolean isCountable(Integer rating) {
+        return rating != null && rating >= MIN_RATING && rating <= MAX_RATING;
+    }
+
+    public double getMean() {
+        return reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+    }
+
+    public long[] getHistogram() {
+        return new long[]{rating1, rating2, rating3, rating4, rating5};
+    }
+
+    // adds (delta = 1) or removes (delta = -1) one review with a countable rating
+    public void apply(int rating, int delta) {
+        reviewCount += delta;
+        ratingSum += (long) rating * delta;
+        switch (rating) {
+            case 1 -> rating1 += delta;
+            case 2 -> rating2 += delta;
+            case 3 -> rating3 += delta;
+            case 4 -> rating4 += delta;
+            case 5 -> rating5 += delta;
+            default -> throw new IllegalArgumentException("Rating out of range: " + rating);
+        }
+    }
+}
@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "Review")
+@Table(name = "Review", indexes = {
+        @Index(name = "idx_review_user_id", columnList = "user_id, review_id"),
+        @Index(name = "idx_review_book_id", columnList = "book_id, review_id")
+})
 public class Review {
 
     @Id
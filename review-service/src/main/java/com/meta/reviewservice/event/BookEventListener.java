@@ -0,0 +1,45 @@
+package com.meta.reviewservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.cache.BookCache;
+import com.meta.reviewservice.dto.BookEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached books when book-service reports a change. Every instance uses its own consumer
+ * group ({@code book.events.group-id}), so each one sees every event.
+ */
+@Component
+@ConditionalOnProperty(name = "book.events.enabled", matchIfMissing = true)
+@Slf4j
+public class BookEventListener {
+    private final BookCache bookCache;
+    private final ObjectMapper objectMapper;
+
+    public BookEventListener(BookCache bookCache, ObjectMapper objectMapper) {
+        this.bookCache = bookCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(topics = "${book.events.topic:book-events}",
+            groupId = "${book.events.group-id}")
+    public void onBookEvent(String message) {
+        BookEventDto event;
+        try {
+            event = objectMapper.readValue(message, BookEventDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("process=book-event, error=unreadable event, message={}", message);
+            return;
+        }
+        log.debug("process=book-event, book_id={}, type={}", event.getBookId(), event.getType());
+        if (BookEventDto.DELETED.equals(event.getType())) {
+            bookCache.evict(event.getBookId());
+        } else {
+            bookCache.invalidate(event.getBookId());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.meta.reviewservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.dto.ReviewEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Publishes every stored rating to {@code review.events.topic} once its transaction has committed;
+ * the rankings topology is built on this topic. Sending is best effort and failures are logged.
+ */
+@Component
+@Slf4j
+public class ReviewEventPublisher {
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public ReviewEventPublisher(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                                @Value("${review.events.topic:review-events}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(ReviewEventDto event) {
+        try {
+            kafkaTemplate.send(topic, String.valueOf(event.getBookId()), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("process=publish-review-event, book_id={}, error={}", event.getBookId(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("process=publish-review-event, book_id={}, error={}", event.getBookId(), e.getMessage());
+        }
+    }
+}
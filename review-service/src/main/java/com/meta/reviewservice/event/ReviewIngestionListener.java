@@ -0,0 +1,68 @@
+package com.meta.reviewservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.converter.ReviewMapper;
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.payload.ReviewRequest;
+import com.meta.reviewservice.service.ReviewService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes reviews accepted by {@link ReviewIngestionPublisher}. Each poll is inserted as one batch
+ * in one transaction. When that fails the records are inserted one at a time, so a single bad
+ * record cannot take the rest of the poll with it: the records before it are stored, and the
+ * error handler is told its index so it retries from there and, once retries run out, skips only
+ * that record.
+ */
+@Component
+@Slf4j
+public class ReviewIngestionListener {
+    private final ReviewService reviewService;
+    private final ReviewMapper reviewMapper;
+    private final ObjectMapper objectMapper;
+
+    public ReviewIngestionListener(ReviewService reviewService, ReviewMapper reviewMapper, ObjectMapper objectMapper) {
+        this.reviewService = reviewService;
+        this.reviewMapper = reviewMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(topics = "${review.ingestion.topic:review-ingestion}",
+            groupId = "${spring.application.name}-ingestion",
+            batch = "true",
+            properties = "auto.offset.reset=earliest")
+    public void onReviews(List<String> messages) {
+        List<Review> reviews = new ArrayList<>(messages.size());
+        // position of each review in the poll, for BatchListenerFailedException
+        List<Integer> indexes = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                reviews.add(reviewMapper.toEntity(objectMapper.readValue(messages.get(i), ReviewRequest.class)));
+                indexes.add(i);
+            } catch (JsonProcessingException e) {
+                log.warn("process=ingest-reviews, error=unreadable review, message={}", messages.get(i));
+            }
+        }
+        try {
+            reviewService.addReviews(reviews);
+        } catch (DataAccessException e) {
+            log.warn("process=ingest-reviews, error=batch failed, retrying record by record, batch_size={}", reviews.size());
+            for (int i = 0; i < reviews.size(); i++) {
+                try {
+                    reviewService.addReviews(List.of(reviews.get(i)));
+                } catch (DataAccessException recordException) {
+                    throw new BatchListenerFailedException("Could not store review", recordException, indexes.get(i));
+                }
+            }
+        }
+        log.debug("process=ingest-reviews, batch_size={}", reviews.size());
+    }
+}
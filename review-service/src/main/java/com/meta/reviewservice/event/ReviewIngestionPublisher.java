@@ -0,0 +1,59 @@
+package com.meta.reviewservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.payload.ReviewRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Hands a review to the ingestion topic. Reviews are keyed by book, so the reviews of one book
+ * are written in the order they were accepted. A review counts as accepted once the broker has
+ * acknowledged it.
+ */
+@Component
+@Slf4j
+public class ReviewIngestionPublisher {
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final Duration sendTimeout;
+
+    public ReviewIngestionPublisher(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                                    @Value("${review.ingestion.topic:review-ingestion}") String topic,
+                                    @Value("${review.ingestion.send-timeout:5s}") Duration sendTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.sendTimeout = sendTimeout;
+    }
+
+    public void publish(ReviewRequest reviewRequest) {
+        try {
+            String message = objectMapper.writeValueAsString(reviewRequest);
+            kafkaTemplate.send(topic, String.valueOf(reviewRequest.getBookId()), message)
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Review cannot be serialized", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable(e);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private ResponseStatusException unavailable(Exception e) {
+        log.warn("process=publish-review, error={}", e.getMessage());
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Review ingestion is unavailable", e);
+    }
+}
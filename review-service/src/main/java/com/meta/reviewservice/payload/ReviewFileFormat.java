@@ -0,0 +1,45 @@
+package com.meta.reviewservice.payload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Formats accepted by the bulk import and produced by the export. CSV files start with a header
+ * naming the {@code userId}, {@code bookId}, {@code rating} and {@code comment} columns; the
+ * export also writes {@code reviewId}.
+ */
+public enum ReviewFileFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    ReviewFileFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ReviewFileFormat of(MediaType mediaType) {
+        for (ReviewFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported format " + mediaType);
+    }
+
+    public static ReviewFileFormat of(String name) {
+        for (ReviewFileFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported format " + name);
+    }
+}
@@ -0,0 +1,28 @@
+package com.meta.reviewservice.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists rejected rows by their line in the upload, up to
+ * {@code review.import.max-reported-errors}; {@code rejected} counts all of them.
+ */
+@Data
+@NoArgsConstructor
+public class ReviewImportReport {
+    private long accepted;
+    private long rejected;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.meta.reviewservice.payload;
+
+import com.meta.reviewservice.dto.ReviewDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of reviews. {@code nextCursor} is passed back as the {@code cursor} parameter to fetch
+ * the following page and is {@code null} on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPage {
+    private List<ReviewDto> items;
+    private String nextCursor;
+}
@@ -1,5 +1,9 @@
 package com.meta.reviewservice.payload;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -8,10 +12,21 @@ import lombok.Setter;
 @Getter
 @Setter
 public class ReviewRequest {
-    private int rating;
-    private long bookId;
-    private long userId;
-    private String comment;
-}
+    @NotNull
+    @Min(1)
+    @Max(5)
+    private Integer rating;
+
+    // stored as INT
+    @NotNull
+    @Positive
+    @Max(Integer.MAX_VALUE)
+    private Long bookId;
 
+    @NotNull
+    @Positive
+    @Max(Integer.MAX_VALUE)
+    private Long userId;
 
+    private String comment;
+}
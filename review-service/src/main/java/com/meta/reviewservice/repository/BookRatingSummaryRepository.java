@@ -0,0 +1,17 @@
+package com.meta.reviewservice.repository;
+
+import com.meta.reviewservice.entity.BookRatingSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BookRatingSummaryRepository extends JpaRepository<BookRatingSummary, Integer> {
+    // serializes concurrent review writes for the same book so no increment is lost
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BookRatingSummary s where s.bookId = :bookId")
+    Optional<BookRatingSummary> findForUpdate(@Param("bookId") Integer bookId);
+}
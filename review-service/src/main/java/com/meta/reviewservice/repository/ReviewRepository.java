@@ -2,13 +2,22 @@ package com.meta.reviewservice.repository;
 
 
 import com.meta.reviewservice.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.repository.Repository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByUserId(Long userId);
     List<Review> findByBookId(Long bookId);
-}
 
+    @Query("select r from Review r where r.reviewId > :afterId order by r.reviewId")
+    List<Review> findPageAfter(Integer afterId, Limit limit);
+
+    @Query("select r from Review r where r.userId = :userId and r.reviewId > :afterId order by r.reviewId")
+    List<Review> findPageByUserIdAfter(Integer userId, Integer afterId, Limit limit);
+
+    @Query("select r from Review r where r.bookId = :bookId and r.reviewId > :afterId order by r.reviewId")
+    List<Review> findPageByBookIdAfter(Integer bookId, Integer afterId, Limit limit);
+}
@@ -0,0 +1,7 @@
+package com.meta.reviewservice.service;
+
+import com.meta.reviewservice.dto.BookDetailDto;
+
+public interface BookDetailService {
+    BookDetailDto getBookDetail(Long bookId, Integer reviewCount);
+}
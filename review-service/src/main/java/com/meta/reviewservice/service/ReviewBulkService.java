@@ -0,0 +1,13 @@
+package com.meta.reviewservice.service;
+
+import com.meta.reviewservice.payload.ReviewFileFormat;
+import com.meta.reviewservice.payload.ReviewImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ReviewBulkService {
+    ReviewImportReport importReviews(InputStream in, ReviewFileFormat format) throws IOException;
+    void exportReviews(OutputStream out, ReviewFileFormat format) throws IOException;
+}
@@ -1,15 +1,18 @@
 package com.meta.reviewservice.service;
 
+import com.meta.reviewservice.entity.BookRatingSummary;
 import com.meta.reviewservice.entity.Review;
 
 import java.util.List;
 
 public interface ReviewService {
     Review addReview(Review review);
+    void addReviews(List<Review> reviews);
     void deleteReview(Long reviewId);
     Review updateReview(Review review);
-    List<Review> getAllReviews();
+    List<Review> getReviews(Integer afterId, int limit);
     Review getReviewById(Long reviewId);
-    List<Review> getReviewsByUserId(Long userId);
-    List<Review> getReviewsByBookId(Long productId);
+    List<Review> getReviewsByUserId(Long userId, Integer afterId, int limit);
+    List<Review> getReviewsByBookId(Long bookId, Integer afterId, int limit);
+    BookRatingSummary getRatingSummary(Long bookId);
 }
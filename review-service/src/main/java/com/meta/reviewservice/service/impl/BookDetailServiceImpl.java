@@ -0,0 +1,146 @@
+package com.meta.reviewservice.service.impl;
+
+import com.meta.reviewservice.cache.BookCache;
+import com.meta.reviewservice.client.BookLookupCoalescer;
+import com.meta.reviewservice.client.UserServiceClient;
+import com.meta.reviewservice.converter.ReviewMapper;
+import com.meta.reviewservice.converter.ReviewPager;
+import com.meta.reviewservice.dto.BookDetailDto;
+import com.meta.reviewservice.dto.BookDto;
+import com.meta.reviewservice.dto.BookRatingDto;
+import com.meta.reviewservice.dto.ReviewDto;
+import com.meta.reviewservice.dto.UserDto;
+import com.meta.reviewservice.exception.EntityNotFoundException;
+import com.meta.reviewservice.payload.ReviewPage;
+import com.meta.reviewservice.service.BookDetailService;
+import com.meta.reviewservice.service.ReviewService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Assembles a book, its rating, a first page of reviews and their reviewers in one call. The book
+ * lookup runs alongside the local reads, and the reviewers are fetched in one batch as soon as the
+ * reviews are known, so the response takes about as long as the slowest remote call. Each remote
+ * call is bounded by its own timeout; when one fails or runs late the document is returned without
+ * that part and names it in {@code unavailable}.
+ */
+@Service
+@Slf4j
+public class BookDetailServiceImpl implements BookDetailService {
+    private final ReviewService reviewService;
+    private final ReviewMapper reviewMapper;
+    private final ReviewPager reviewPager;
+    private final BookCache bookCache;
+    private final BookLookupCoalescer bookLookupCoalescer;
+    private final UserServiceClient userServiceClient;
+    private final Duration bookTimeout;
+    private final Duration reviewersTimeout;
+    private final Executor executor;
+
+    public BookDetailServiceImpl(ReviewService reviewService, ReviewMapper reviewMapper, ReviewPager reviewPager,
+                                 BookCache bookCache, BookLookupCoalescer bookLookupCoalescer,
+                                 UserServiceClient userServiceClient,
+                                 @Value("${review.detail.book-timeout:1s}") Duration bookTimeout,
+                                 @Value("${review.detail.reviewers-timeout:1s}") Duration reviewersTimeout,
+                                 @Qualifier("bookDetailExecutor") Executor executor) {
+        this.reviewService = reviewService;
+        this.reviewMapper = reviewMapper;
+        this.reviewPager = reviewPager;
+        this.bookCache = bookCache;
+        this.bookLookupCoalescer = bookLookupCoalescer;
+        this.userServiceClient = userServiceClient;
+        this.bookTimeout = bookTimeout;
+        this.reviewersTimeout = reviewersTimeout;
+        this.executor = executor;
+    }
+
+    @Override
+    public BookDetailDto getBookDetail(Long bookId, Integer reviewCount) {
+        CompletableFuture<Optional<BookDto>> book =
+                remote(() -> Optional.ofNullable(bookCache.get(bookId, bookLookupCoalescer::lookup)), bookTimeout);
+        CompletableFuture<BookRatingDto> rating = local(() -> reviewMapper.toDto(reviewService.getRatingSummary(bookId)));
+        CompletableFuture<ReviewPage> reviews = local(() -> reviewPager.page(null, reviewCount,
+                (afterId, limit) -> reviewService.getReviewsByBookId(bookId, afterId, limit)));
+        CompletableFuture<Map<Long, UserDto>> reviewers = reviews
+                .thenCompose(page -> remote(() -> findReviewers(page.getItems()), reviewersTimeout));
+
+        BookDetailDto detail = new BookDetailDto();
+        // the local reads carry the document; their failures are not partial results
+        ReviewPage page = join(reviews);
+        detail.setReviews(page.getItems());
+        detail.setNextReviewsCursor(page.getNextCursor());
+        detail.setRating(join(rating));
+
+        Optional<BookDto> bookDto = optional(book, bookId, "book", detail);
+        if (bookDto != null) {
+            detail.setBook(bookDto.orElseThrow(() -> new EntityNotFoundException("Book not found")));
+        }
+        detail.setReviewers(Optional.ofNullable(optional(reviewers, bookId, "reviewers", detail)).orElse(Map.of()));
+        return detail;
+    }
+
+    private Map<Long, UserDto> findReviewers(List<ReviewDto> reviews) {
+        List<Long> userIds = reviews.stream().map(ReviewDto::getUserId).filter(id -> id > 0).distinct().toList();
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, UserDto> reviewers = new LinkedHashMap<>();
+        userServiceClient.getUsersByIds(userIds).forEach(user -> reviewers.put(user.getId(), user));
+        return reviewers;
+    }
+
+    // a rejected remote part fails at once, so a saturated executor answers without it instead of
+    // queueing the request behind calls that are already late
+    private <T> CompletableFuture<T> remote(Supplier<T> call, Duration timeout) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // the local reads carry the document, so a rejected one runs on the request thread instead
+    private <T> CompletableFuture<T> local(Supplier<T> read) {
+        try {
+            return CompletableFuture.supplyAsync(read, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(read.get());
+        }
+    }
+
+    // null when the part failed or ran late; the part is then listed as unavailable
+    private static <T> T optional(CompletableFuture<T> part, Long bookId, String name, BookDetailDto detail) {
+        try {
+            return part.join();
+        } catch (CompletionException e) {
+            log.warn("process=get-book-detail, book_id={}, part={}, error={}", bookId, name, e.getCause().toString());
+            detail.getUnavailable().add(name);
+            return null;
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> part) {
+        try {
+            return part.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
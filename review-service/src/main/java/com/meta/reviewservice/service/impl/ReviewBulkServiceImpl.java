@@ -0,0 +1,279 @@
+package com.meta.reviewservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.converter.ReviewMapper;
+import com.meta.reviewservice.entity.BookRatingSummary;
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.payload.ReviewFileFormat;
+import com.meta.reviewservice.payload.ReviewImportReport;
+import com.meta.reviewservice.payload.ReviewRequest;
+import com.meta.reviewservice.service.ReviewBulkService;
+import com.meta.reviewservice.service.ReviewService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class ReviewBulkServiceImpl implements ReviewBulkService {
+    private static final String SELECT_REVIEWS = "SELECT review_id, user_id, book_id, rating, comment FROM Review ORDER BY review_id";
+    private static final List<String> CSV_COLUMNS = List.of("reviewId", "userId", "bookId", "rating", "comment");
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private final ReviewService reviewService;
+    private final ReviewMapper reviewMapper;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${review.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${review.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public ReviewBulkServiceImpl(ReviewService reviewService, ReviewMapper reviewMapper, ObjectMapper objectMapper,
+                                 JdbcTemplate jdbcTemplate) {
+        this.reviewService = reviewService;
+        this.reviewMapper = reviewMapper;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reads the upload a line at a time and inserts valid rows through
+     * {@link ReviewService#addReviews} in batches of {@code review.import.batch-size}, one
+     * transaction per batch, so a large file never holds a long transaction or sits in memory.
+     * When a batch fails it is retried row by row to find the offending rows.
+     */
+    @Override
+    public ReviewImportReport importReviews(InputStream in, ReviewFileFormat format) throws IOException {
+        ReviewImportReport report = new ReviewImportReport();
+        List<Review> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, Integer> header = format == ReviewFileFormat.CSV ? readHeader(reader) : null;
+        long line = header == null ? 0 : 1;
+
+        for (String row = reader.readLine(); row != null; row = reader.readLine()) {
+            line++;
+            if (row.isBlank()) {
+                continue;
+            }
+            try {
+                ReviewRequest request = header == null ? objectMapper.readValue(row, ReviewRequest.class) : fromCsv(row, header);
+                validate(request);
+                batch.add(reviewMapper.toEntity(request));
+                batchLines.add(line);
+            } catch (JsonProcessingException e) {
+                reject(report, line, "Unreadable row: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                reject(report, line, e.getMessage());
+            }
+            if (batch.size() == batchSize) {
+                insert(batch, batchLines, report);
+            }
+        }
+        insert(batch, batchLines, report);
+        log.info("process=import-reviews, format={}, accepted={}, rejected={}", format, report.getAccepted(), report.getRejected());
+        return report;
+    }
+
+    /**
+     * Writes every review in id order. Rows are read through a JDBC cursor and written as they
+     * arrive, so memory stays flat however many reviews there are. The transaction turns
+     * autocommit off, without which the PostgreSQL driver ignores the fetch size and reads the
+     * whole table at once. Missing values are written as empty fields rather than as 0.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportReviews(OutputStream out, ReviewFileFormat format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ReviewFileFormat.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_REVIEWS);
+                statement.setFetchSize(EXPORT_FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                Review review = new Review();
+                review.setReviewId(resultSet.getObject("review_id", Integer.class));
+                review.setUserId(resultSet.getObject("user_id", Integer.class));
+                review.setBookId(resultSet.getObject("book_id", Integer.class));
+                review.setRating(resultSet.getObject("rating", Integer.class));
+                review.setComment(resultSet.getString("comment"));
+                try {
+                    writer.write(format == ReviewFileFormat.CSV ? toCsv(review) : objectMapper.writeValueAsString(review));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void insert(List<Review> batch, List<Long> batchLines, ReviewImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            reviewService.addReviews(List.copyOf(batch));
+            report.setAccepted(report.getAccepted() + batch.size());
+        } catch (DataAccessException e) {
+            log.warn("process=import-reviews, error=batch failed, retrying row by row, first_line={}", batchLines.get(0));
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    reviewService.addReviews(List.of(batch.get(i)));
+                    report.setAccepted(report.getAccepted() + 1);
+                } catch (DataAccessException rowException) {
+                    reject(report, batchLines.get(i), "Could not be stored: " + rowException.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private void reject(ReviewImportReport report, long line, String message) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new ReviewImportReport.RowError(line, message));
+        }
+    }
+
+    private static void validate(ReviewRequest request) {
+        validateId(request.getUserId(), "userId");
+        validateId(request.getBookId(), "bookId");
+        if (!BookRatingSummary.isCountable(request.getRating())) {
+            throw new IllegalArgumentException("rating must be between " + BookRatingSummary.MIN_RATING + " and " + BookRatingSummary.MAX_RATING);
+        }
+    }
+
+    // ids are stored as INT; a larger value would wrap to another user or book when narrowed
+    private static void validateId(Long id, String name) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        if (id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(name + " is out of range");
+        }
+    }
+
+    private static Map<String, Integer> readHeader(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return Map.of();
+        }
+        Map<String, Integer> header = new HashMap<>();
+        List<String> columns = parseCsv(line);
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        return header;
+    }
+
+    private static ReviewRequest fromCsv(String row, Map<String, Integer> header) {
+        List<String> values = parseCsv(row);
+        ReviewRequest request = new ReviewRequest();
+        request.setUserId(parseLong(column(values, header, "userId"), "userId"));
+        request.setBookId(parseLong(column(values, header, "bookId"), "bookId"));
+        request.setRating(parseInt(column(values, header, "rating"), "rating"));
+        request.setComment(column(values, header, "comment"));
+        return request;
+    }
+
+    private static String column(List<String> values, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    private static long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value == null ? "" : value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a number");
+        }
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Math.toIntExact(parseLong(value, name));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(name + " is out of range");
+        }
+    }
+
+    // RFC 4180 fields within a single line; quoted fields may contain commas and doubled quotes
+    static List<String> parseCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    static String toCsv(Review review) {
+        return field(review.getReviewId()) + "," + field(review.getUserId()) + "," + field(review.getBookId()) + ","
+                + field(review.getRating()) + "," + quote(review.getComment());
+    }
+
+    private static String field(Integer value) {
+        return value == null ? "" : value.toString();
+    }
+
+    // line breaks are folded to spaces so every review stays on one line and can be imported again
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace('\r', ' ').replace('\n', ' ').replace("\"", "\"\"") + "\"";
+    }
+}
@@ -1,40 +1,109 @@
 package com.meta.reviewservice.service.impl;
 
+import com.meta.reviewservice.dto.ReviewEventDto;
+import com.meta.reviewservice.entity.BookRatingSummary;
 import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.repository.BookRatingSummaryRepository;
 import com.meta.reviewservice.repository.ReviewRepository;
 import com.meta.reviewservice.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Types;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 public class ReviewServiceImpl implements ReviewService {
+    private static final String INSERT_REVIEW = "INSERT INTO Review (user_id, book_id, rating, comment) VALUES (?, ?, ?, ?)";
+
     private final ReviewRepository reviewRepository;
+    private final BookRatingSummaryRepository ratingSummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // inserts an empty summary row unless one exists; the statement is dialect specific
+    @Value("${review.rating-summary.create-sql}")
+    private String createSummarySql;
 
     @Autowired
-    public ReviewServiceImpl(ReviewRepository reviewRepository) {
+    public ReviewServiceImpl(ReviewRepository reviewRepository, BookRatingSummaryRepository ratingSummaryRepository,
+                             JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
         this.reviewRepository = reviewRepository;
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Review addReview(Review review) {
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        applyRating(saved.getBookId(), saved.getRating(), 1);
+        publishRating(saved);
+        return saved;
     }
 
+    /**
+     * Inserts reviews with one JDBC batch and applies their ratings with one summary update per
+     * book, instead of a save and a summary update per review.
+     */
     @Override
+    @Transactional
+    public void addReviews(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_REVIEW, reviews, reviews.size(), (statement, review) -> {
+            statement.setObject(1, review.getUserId(), Types.INTEGER);
+            statement.setObject(2, review.getBookId(), Types.INTEGER);
+            statement.setObject(3, review.getRating(), Types.INTEGER);
+            statement.setString(4, review.getComment());
+        });
+        // summary rows are locked in book order, so two concurrent batches cannot deadlock
+        reviews.stream()
+                .filter(review -> review.getBookId() != null && BookRatingSummary.isCountable(review.getRating()))
+                .collect(Collectors.groupingBy(Review::getBookId, TreeMap::new, Collectors.toList()))
+                .forEach((bookId, bookReviews) -> {
+                    BookRatingSummary summary = lockSummary(bookId);
+                    bookReviews.forEach(review -> summary.apply(review.getRating(), 1));
+                    ratingSummaryRepository.save(summary);
+                    bookReviews.forEach(this::publishRating);
+                });
+    }
+
+    @Override
+    @Transactional
     public void deleteReview(Long reviewId) {
-        reviewRepository.deleteById(reviewId);
+        reviewRepository.findById(reviewId).ifPresent(review -> {
+            applyRating(review.getBookId(), review.getRating(), -1);
+            reviewRepository.delete(review);
+        });
     }
 
     @Override
+    @Transactional
     public Review updateReview(Review review) {
-        return reviewRepository.save(review);
+        // read the old values before save() merges the new ones into the managed instance
+        if (review.getReviewId() != null) {
+            reviewRepository.findById(review.getReviewId().longValue()).ifPresent(existing ->
+                    applyRating(existing.getBookId(), existing.getRating(), -1));
+        }
+        Review saved = reviewRepository.save(review);
+        applyRating(saved.getBookId(), saved.getRating(), 1);
+        return saved;
     }
 
     @Override
-    public List<Review> getAllReviews() {
-        return reviewRepository.findAll();
+    public List<Review> getReviews(Integer afterId, int limit) {
+        return reviewRepository.findPageAfter(afterId, Limit.of(limit));
     }
 
     @Override
@@ -43,12 +112,51 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
-    public List<Review> getReviewsByUserId(Long userId) {
-        return reviewRepository.findByUserId(userId);
+    public List<Review> getReviewsByUserId(Long userId, Integer afterId, int limit) {
+        return reviewRepository.findPageByUserIdAfter(userId.intValue(), afterId, Limit.of(limit));
+    }
+
+    @Override
+    public List<Review> getReviewsByBookId(Long bookId, Integer afterId, int limit) {
+        return reviewRepository.findPageByBookIdAfter(bookId.intValue(), afterId, Limit.of(limit));
     }
 
     @Override
-    public List<Review> getReviewsByBookId(Long bookId) {
-        return reviewRepository.findByBookId(bookId);
+    public BookRatingSummary getRatingSummary(Long bookId) {
+        return ratingSummaryRepository.findById(bookId.intValue())
+                .orElseGet(() -> new BookRatingSummary(bookId.intValue()));
+    }
+
+    // feeds the weekly rankings; only added reviews are counted there
+    private void publishRating(Review review) {
+        if (review.getBookId() != null && BookRatingSummary.isCountable(review.getRating())) {
+            eventPublisher.publishEvent(new ReviewEventDto(review.getBookId().longValue(), review.getRating()));
+        }
+    }
+
+    private void applyRating(Integer bookId, Integer rating, int delta) {
+        if (bookId == null || !BookRatingSummary.isCountable(rating)) {
+            return;
+        }
+        BookRatingSummary summary = lockSummary(bookId);
+        summary.apply(rating, delta);
+        ratingSummaryRepository.save(summary);
+    }
+
+    /**
+     * Locks the book's summary row, creating it first if this is the book's first review. The
+     * row is created with an insert-if-absent rather than by saving a new entity, so two first
+     * reviews of the same book both end up updating one row instead of one of them failing on
+     * the primary key.
+     */
+    private BookRatingSummary lockSummary(Integer bookId) {
+        try {
+            jdbcTemplate.update(createSummarySql, bookId);
+        } catch (DuplicateKeyException e) {
+            // H2's MERGE can still collide with a concurrent insert; only the statement fails there,
+            // and the row it collided with is committed by now
+        }
+        return ratingSummaryRepository.findForUpdate(bookId)
+                .orElseThrow(() -> new IllegalStateException("No rating summary for book " + bookId));
     }
 }
@@ -0,0 +1,62 @@
+package com.meta.reviewservice.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.dto.RatingAggregateDto;
+import com.meta.reviewservice.dto.ReviewEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.kafka.support.serializer.JsonSerde;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Rolls review events up into a rating aggregate per book and week. Windows are seven days long
+ * and start every day, so the window that began just under a week ago always covers
+ * "this week". The aggregates are kept in the {@link #WEEKLY_RATINGS_STORE} window store.
+ */
+@Slf4j
+public final class ReviewRankingTopology {
+    public static final String WEEKLY_RATINGS_STORE = "weekly-book-ratings";
+    public static final Duration WINDOW_SIZE = Duration.ofDays(7);
+    public static final Duration WINDOW_ADVANCE = Duration.ofDays(1);
+    private static final Duration GRACE = Duration.ofHours(1);
+
+    private ReviewRankingTopology() {
+    }
+
+    public static KStream<String, ReviewEventDto> build(StreamsBuilder builder, String topic, ObjectMapper objectMapper) {
+        KStream<String, ReviewEventDto> reviews = builder
+                .stream(topic, Consumed.with(Serdes.String(), Serdes.String()))
+                .flatMapValues(message -> read(message, objectMapper).stream().toList())
+                // ReviewEventPublisher keys every event by its book id, so grouping needs no repartition
+                .filter((bookId, event) -> event.getBookId() != null && event.getRating() != null);
+
+        reviews.groupByKey(Grouped.with(Serdes.String(), new JsonSerde<>(ReviewEventDto.class, objectMapper)))
+                .windowedBy(TimeWindows.ofSizeAndGrace(WINDOW_SIZE, GRACE).advanceBy(WINDOW_ADVANCE))
+                .aggregate(RatingAggregateDto::new,
+                        (bookId, event, aggregate) -> aggregate.add(event.getRating()),
+                        Materialized.<String, RatingAggregateDto, WindowStore<Bytes, byte[]>>as(WEEKLY_RATINGS_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(new JsonSerde<>(RatingAggregateDto.class, objectMapper)));
+        return reviews;
+    }
+
+    private static Optional<ReviewEventDto> read(String message, ObjectMapper objectMapper) {
+        try {
+            return Optional.of(objectMapper.readValue(message, ReviewEventDto.class));
+        } catch (JsonProcessingException e) {
+            log.warn("process=rank-reviews, error=unreadable event, message={}", message);
+            return Optional.empty();
+        }
+    }
+}
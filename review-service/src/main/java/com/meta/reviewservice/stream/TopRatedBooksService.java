@@ -0,0 +1,79 @@
+package com.meta.reviewservice.stream;
+
+import com.meta.reviewservice.dto.RatingAggregateDto;
+import com.meta.reviewservice.dto.TopRatedBookDto;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyWindowStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers "highest rated this week" from the local weekly ratings store through an interactive
+ * query. Each instance only holds the partitions assigned to it, so the ranking is complete when a
+ * single instance runs the topology.
+ */
+@Service
+public class TopRatedBooksService {
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+    private final long minReviews;
+    private final Clock clock;
+
+    public TopRatedBooksService(StreamsBuilderFactoryBean streamsBuilderFactoryBean,
+                                @Value("${review.top-rated.min-reviews:3}") long minReviews) {
+        this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+        this.minReviews = minReviews;
+        this.clock = Clock.systemUTC();
+    }
+
+    public List<TopRatedBookDto> getTopRated(int limit) {
+        KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (kafkaStreams == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Rankings are not available yet");
+        }
+        try {
+            ReadOnlyWindowStore<String, RatingAggregateDto> store = kafkaStreams.store(StoreQueryParameters.fromNameAndType(
+                    ReviewRankingTopology.WEEKLY_RATINGS_STORE, QueryableStoreTypes.windowStore()));
+            return topRated(store, clock.instant(), minReviews, limit);
+        } catch (InvalidStateStoreException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Rankings are not available yet", e);
+        }
+    }
+
+    /**
+     * Ranks books by mean rating within the oldest window that still contains {@code now}, which
+     * covers the last six to seven days. Books with fewer than {@code minReviews} reviews in that
+     * window are left out, so a single five-star review does not top the list.
+     */
+    static List<TopRatedBookDto> topRated(ReadOnlyWindowStore<String, RatingAggregateDto> store, Instant now,
+                                          long minReviews, int limit) {
+        Instant from = now.minus(ReviewRankingTopology.WINDOW_SIZE).plusMillis(1);
+        Map<String, KeyValue<Windowed<String>, RatingAggregateDto>> thisWeek = new HashMap<>();
+        try (KeyValueIterator<Windowed<String>, RatingAggregateDto> windows = store.fetchAll(from, now)) {
+            windows.forEachRemaining(window -> thisWeek.merge(window.key.key(), window,
+                    (current, candidate) -> candidate.key.window().start() < current.key.window().start() ? candidate : current));
+        }
+        return thisWeek.values().stream()
+                .filter(window -> window.value.getCount() >= minReviews)
+                .map(window -> new TopRatedBookDto(Long.parseLong(window.key.key()), window.value.getCount(), window.value.getMean()))
+                .sorted(Comparator.comparingDouble(TopRatedBookDto::getMean).reversed()
+                        .thenComparing(Comparator.comparingLong(TopRatedBookDto::getCount).reversed()))
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,23 @@
+-- Reviews and rating totals, owned by review-service. Books and users belong to other services'
+-- schemas, so book_id and user_id are plain columns rather than foreign keys.
+CREATE TABLE Review (
+    review_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id INT,
+    book_id INT,
+    rating INT,
+    comment TEXT
+);
+
+CREATE INDEX idx_review_user_id ON Review(user_id, review_id);
+CREATE INDEX idx_review_book_id ON Review(book_id, review_id);
+
+CREATE TABLE book_rating_summary (
+    book_id INT PRIMARY KEY,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1 BIGINT NOT NULL DEFAULT 0,
+    rating_2 BIGINT NOT NULL DEFAULT 0,
+    rating_3 BIGINT NOT NULL DEFAULT 0,
+    rating_4 BIGINT NOT NULL DEFAULT 0,
+    rating_5 BIGINT NOT NULL DEFAULT 0
+);
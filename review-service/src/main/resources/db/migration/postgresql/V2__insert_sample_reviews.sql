@@ -0,0 +1,7 @@
+INSERT INTO Review (user_id, book_id, rating, comment) VALUES
+(1, 1, 5, 'Great book!'),
+(2, 2, 4, 'Enjoyed it.');
+
+INSERT INTO book_rating_summary (book_id, review_count, rating_sum, rating_4, rating_5) VALUES
+(1, 1, 5, 0, 1),
+(2, 1, 4, 1, 0);
@@ -0,0 +1,128 @@
+package com.meta.reviewservice;
+
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Boots review-service against an in-memory database and a loopback book-service stand-in that
+ * answers after a fixed delay, then keeps a fixed number of {@code GET /api/v1/reviews/book/{id}}
+ * requests in flight. Every request asks for a different book, so each one misses the book cache
+ * and waits on a book-service round trip while holding its request thread.
+ *
+ * <p>Run with {@code mvn test-compile} and then the {@link #main} method on the test classpath,
+ * once per mode; the virtual mode needs a Java 21 runtime ({@code mvn -Pjdk21 test-compile}).
+ * Arguments: {@code platform|virtual}, requests, concurrency, book-service delay in milliseconds.
+ */
+public class ThreadingLoadComparison {
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "platform";
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        long delayMillis = args.length > 3 ? Long.parseLong(args[3]) : 50;
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        // devtools would restart the context from this main method
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        HttpServer bookService = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        bookService.setExecutor(Executors.newCachedThreadPool());
+        bookService.createContext("/api/v1/books", exchange -> {
+            // Feign repeats the parameter for collections: ids=1&ids=2
+            String ids = exchange.getRequestURI().getQuery().replace("ids=", "").replace('&', ',');
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = Arrays.stream(ids.split(","))
+                    .map(id -> "{\"id\":" + id + ",\"title\":\"Book " + id + "\"}")
+                    .collect(Collectors.joining(",", "[", "]"))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        bookService.start();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ReviewServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                "--spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--eureka.client.enabled=false",
+                "--spring.cloud.discovery.client.simple.instances.book-service[0].uri=http://localhost:" + bookService.getAddress().getPort(),
+                "--book.events.enabled=false",
+                "--spring.kafka.admin.auto-create=false",
+                "--spring.kafka.listener.auto-startup=false",
+                "--spring.kafka.streams.auto-startup=false",
+                "--logging.level.root=WARN");
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+        try {
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(8)).build();
+            run(client, port, 2000, concurrency, 1_000_000);
+            long[] latencies = run(client, port, requests, concurrency, 0);
+            report(mode, requests, concurrency, latencies);
+        } finally {
+            context.close();
+            bookService.stop(0);
+            System.exit(0);
+        }
+    }
+
+    private static long[] run(HttpClient client, int port, int requests, int concurrency, int firstBookId) throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[requests];
+        CompletableFuture<?>[] results = new CompletableFuture<?>[requests];
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/api/v1/reviews/book/" + (firstBookId + i + 1))).build();
+            results[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, e) -> {
+                latencies[index] = System.nanoTime() - sent;
+                if (e != null || response.statusCode() != 200) {
+                    failures.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        CompletableFuture.allOf(results).join();
+        long wallMillis = (System.nanoTime() - start) / 1_000_000;
+        if (firstBookId == 0) {
+            System.out.printf("wall=%dms, throughput=%d req/s, failed=%d%n",
+                    wallMillis, requests * 1000L / Math.max(1, wallMillis), failures.get());
+        }
+        return latencies;
+    }
+
+    private static void report(String mode, int requests, int concurrency, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s (java %s): %d requests, %d in flight, p50=%dms p99=%dms max=%dms, peak threads=%d%n",
+                mode, Runtime.version().feature(), requests, concurrency,
+                sorted[sorted.length / 2] / 1_000_000, sorted[sorted.length * 99 / 100] / 1_000_000,
+                sorted[sorted.length - 1] / 1_000_000, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    }
+}
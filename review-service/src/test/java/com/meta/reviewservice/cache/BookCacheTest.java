@@ -0,0 +1,103 @@
+package com.meta.reviewservice.cache;
+
+import com.meta.reviewservice.dto.BookDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BookCacheTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private BookCache bookCache;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookCache = new BookCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100, meterRegistry, now::get);
+    }
+
+    @Test
+    public void testKnownBookIsCachedUntilTtl() {
+        bookCache.get(1L, this::load);
+        BookDto book = bookCache.get(1L, this::load);
+
+        assertThat(book.getTitle()).isEqualTo("Book 1");
+        assertThat(loads).hasValue(1);
+
+        now.addAndGet(Duration.ofMinutes(11).toNanos());
+        bookCache.get(1L, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void testUnknownBookIsCachedForNegativeTtl() {
+        assertThat(bookCache.get(404L, this::load)).isNull();
+        assertThat(bookCache.get(404L, this::load)).isNull();
+        assertThat(loads).hasValue(1);
+
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        bookCache.get(404L, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void testFailedLoadServesStaleCopy() {
+        bookCache.get(1L, this::load);
+        bookCache.invalidate(1L);
+
+        BookDto book = bookCache.get(1L, failing());
+
+        assertThat(book.getTitle()).isEqualTo("Book 1");
+        assertThat(bookCache.getStale(1L)).contains(book);
+    }
+
+    @Test
+    public void testFailedLoadWithoutStaleCopyFails() {
+        assertThatThrownBy(() -> bookCache.get(1L, failing())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testEvictForgetsStaleCopy() {
+        bookCache.get(1L, this::load);
+        bookCache.evict(1L);
+
+        assertThat(bookCache.getStale(1L)).isEmpty();
+        assertThatThrownBy(() -> bookCache.get(1L, failing())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testHitRateIsPublished() {
+        bookCache.get(1L, this::load);
+        bookCache.get(1L, this::load);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BookCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BookCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private CompletableFuture<BookDto> load(Long bookId) {
+        loads.incrementAndGet();
+        if (bookId == 404L) {
+            return CompletableFuture.completedFuture(null);
+        }
+        BookDto book = new BookDto();
+        book.setId(bookId);
+        book.setTitle("Book " + bookId);
+        return CompletableFuture.completedFuture(book);
+    }
+
+    private static Function<Long, CompletableFuture<BookDto>> failing() {
+        return bookId -> CompletableFuture.failedFuture(new IllegalStateException("book-service down"));
+    }
+}
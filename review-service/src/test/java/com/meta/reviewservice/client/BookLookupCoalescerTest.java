@@ -0,0 +1,113 @@
+package com.meta.reviewservice.client;
+
+import com.meta.reviewservice.dto.BookDto;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class BookLookupCoalescerTest {
+    @Mock
+    private BookServiceClient bookServiceClient;
+
+    private BookLookupCoalescer coalescer;
+
+    @BeforeEach
+    public void init() {
+        MockitoAnnotations.openMocks(this);
+        when(bookServiceClient.getBooksByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().filter(id -> id < 1000).map(BookLookupCoalescerTest::book).toList();
+        });
+        coalescer = new BookLookupCoalescer(bookServiceClient, Duration.ofMillis(50), 5, 2);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    public void testLookupsWithinWindowShareOneCall() {
+        List<CompletableFuture<BookDto>> results = List.of(
+                coalescer.lookup(1L), coalescer.lookup(2L), coalescer.lookup(1L), coalescer.lookup(1000L));
+
+        assertThat(results.get(0).join().getTitle()).isEqualTo("Book 1");
+        assertThat(results.get(1).join().getTitle()).isEqualTo("Book 2");
+        assertThat(results.get(2)).isSameAs(results.get(0));
+        assertThat(results.get(3).join()).isNull();
+        verify(bookServiceClient, times(1)).getBooksByIds(List.of(1L, 2L, 1000L));
+    }
+
+    @Test
+    public void testBatchRunsInTraceOfOpeningLookup() {
+        // given
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(context -> true);
+        AtomicReference<Observation> current = new AtomicReference<>();
+        when(bookServiceClient.getBooksByIds(anyCollection())).thenAnswer(invocation -> {
+            current.set(registry.getCurrentObservation());
+            return List.of(book(1L));
+        });
+        Observation request = Observation.start("http.server.requests", registry);
+
+        // when
+        CompletableFuture<BookDto> result;
+        try (Observation.Scope scope = request.openScope()) {
+            result = coalescer.lookup(1L);
+        }
+        result.join();
+        request.stop();
+
+        // then
+        assertThat(current.get()).isSameAs(request);
+    }
+
+    @Test
+    public void testFullBatchIsSentWithoutWaiting() {
+        List<CompletableFuture<BookDto>> results = IntStream.rangeClosed(1, 7)
+                .mapToObj(id -> coalescer.lookup((long) id))
+                .toList();
+
+        results.forEach(CompletableFuture::join);
+        verify(bookServiceClient).getBooksByIds(List.of(1L, 2L, 3L, 4L, 5L));
+        verify(bookServiceClient).getBooksByIds(List.of(6L, 7L));
+    }
+
+    @Test
+    public void testFailureReachesEveryCaller() {
+        reset(bookServiceClient);
+        when(bookServiceClient.getBooksByIds(any())).thenThrow(new IllegalStateException("book-service down"));
+
+        CompletableFuture<BookDto> other = coalescer.lookup(2L);
+
+        assertThatThrownBy(() -> coalescer.getBookById(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("book-service down");
+        assertThat(other).isCompletedExceptionally();
+        verify(bookServiceClient, times(1)).getBooksByIds(any());
+    }
+
+    private static BookDto book(Long id) {
+        BookDto book = new BookDto();
+        book.setId(id);
+        book.setTitle("Book " + id);
+        return book;
+    }
+}
@@ -0,0 +1,56 @@
+package com.meta.reviewservice.client.fallback;
+
+import com.meta.reviewservice.cache.BookCache;
+import com.meta.reviewservice.dto.BookDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BookServiceFallbackTest {
+    private BookCache bookCache;
+    private BookServiceFallback fallback;
+
+    @BeforeEach
+    public void init() {
+        bookCache = new BookCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100, new SimpleMeterRegistry());
+        fallback = new BookServiceFallback(bookCache);
+    }
+
+    @Test
+    public void testBatchFallbackNeverCachesAPlaceholder() {
+        // given
+        bookCache.get(1L, id -> CompletableFuture.completedFuture(book(id)));
+        bookCache.invalidate(1L);
+
+        // when / then: the seen book is served stale, the unseen one fails and stays uncached
+        assertThat(bookCache.get(1L, this::loadThroughFallback).getTitle()).isEqualTo("Book 1");
+        assertThatThrownBy(() -> bookCache.get(2L, this::loadThroughFallback))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(bookCache.get(2L, id -> CompletableFuture.completedFuture(book(id))).getTitle()).isEqualTo("Book 2");
+    }
+
+    @Test
+    public void testSingleLookupFallbackServesStaleCopy() {
+        bookCache.get(1L, id -> CompletableFuture.completedFuture(book(id)));
+
+        assertThat(fallback.getBookById(1L).getTitle()).isEqualTo("Book 1");
+    }
+
+    private CompletableFuture<BookDto> loadThroughFallback(Long bookId) {
+        return CompletableFuture.supplyAsync(() -> fallback.getBooksByIds(List.of(bookId)).get(0));
+    }
+
+    private static BookDto book(Long bookId) {
+        BookDto book = new BookDto();
+        book.setId(bookId);
+        book.setTitle("Book " + bookId);
+        return book;
+    }
+}
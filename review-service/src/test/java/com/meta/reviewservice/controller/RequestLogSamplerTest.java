@@ -0,0 +1,53 @@
+package com.meta.reviewservice.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestLogSamplerTest {
+    private Logger log;
+
+    @BeforeEach
+    public void init() {
+        log = new LoggerContext().getLogger(ReviewController.class);
+        log.setLevel(Level.INFO);
+    }
+
+    @Test
+    public void testRateOneLogsEveryCall() {
+        RequestLogSampler sampler = new RequestLogSampler(1);
+
+        assertThat(IntStream.range(0, 1_000).filter(i -> sampler.sample(log)).count()).isEqualTo(1_000);
+    }
+
+    @Test
+    public void testLogsAboutOneCallInRate() {
+        RequestLogSampler sampler = new RequestLogSampler(100);
+
+        long sampled = IntStream.range(0, 100_000).filter(i -> sampler.sample(log)).count();
+
+        assertThat(sampled).isBetween(700L, 1_300L);
+    }
+
+    @Test
+    public void testDebugLogsEveryCall() {
+        RequestLogSampler sampler = new RequestLogSampler(100);
+        log.setLevel(Level.DEBUG);
+
+        assertThat(IntStream.range(0, 1_000).filter(i -> sampler.sample(log)).count()).isEqualTo(1_000);
+    }
+
+    @Test
+    public void testNothingIsSampledWhenInfoIsOff() {
+        RequestLogSampler sampler = new RequestLogSampler(1);
+        log.setLevel(Level.WARN);
+
+        assertThat(sampler.sample(log)).isFalse();
+    }
+}
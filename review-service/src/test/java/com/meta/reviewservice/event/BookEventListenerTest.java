@@ -0,0 +1,45 @@
+package com.meta.reviewservice.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.cache.BookCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.mockito.Mockito.*;
+
+public class BookEventListenerTest {
+    @Mock
+    private BookCache bookCache;
+
+    private BookEventListener listener;
+
+    @BeforeEach
+    public void init() {
+        MockitoAnnotations.openMocks(this);
+        listener = new BookEventListener(bookCache, new ObjectMapper());
+    }
+
+    @Test
+    public void testUpdateInvalidatesBook() {
+        listener.onBookEvent("{\"bookId\":7,\"type\":\"UPDATED\"}");
+
+        verify(bookCache).invalidate(7L);
+        verify(bookCache, never()).evict(any());
+    }
+
+    @Test
+    public void testDeleteEvictsBook() {
+        listener.onBookEvent("{\"bookId\":7,\"type\":\"DELETED\"}");
+
+        verify(bookCache).evict(7L);
+    }
+
+    @Test
+    public void testUnreadableEventIsIgnored() {
+        listener.onBookEvent("not json");
+
+        verifyNoInteractions(bookCache);
+    }
+}
@@ -0,0 +1,75 @@
+package com.meta.reviewservice.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.converter.ReviewMapper;
+import com.meta.reviewservice.service.ReviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class ReviewIngestionListenerTest {
+    @Mock
+    private ReviewService reviewService;
+
+    private ReviewIngestionListener listener;
+
+    @BeforeEach
+    public void init() {
+        MockitoAnnotations.openMocks(this);
+        listener = new ReviewIngestionListener(reviewService, ReviewMapper.INSTANCE, new ObjectMapper());
+    }
+
+    @Test
+    public void testPollIsInsertedAsOneBatch() {
+        listener.onReviews(List.of(review(1), review(2)));
+
+        verify(reviewService).addReviews(argThat(reviews -> reviews.size() == 2));
+        verifyNoMoreInteractions(reviewService);
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedRecordByRecordAndReportsTheFailingIndex() {
+        // given
+        doThrow(new DataIntegrityViolationException("batch"))
+                .when(reviewService).addReviews(argThat(reviews -> reviews.size() > 1));
+        doThrow(new DataIntegrityViolationException("book 404"))
+                .when(reviewService).addReviews(argThat(reviews -> reviews.size() == 1 && reviews.get(0).getBookId() == 404));
+
+        // when
+        BatchListenerFailedException exception = catchThrowableOfType(
+                () -> listener.onReviews(List.of(review(1), "not json", review(404), review(2))),
+                BatchListenerFailedException.class);
+
+        // then
+        assertThat(exception.getIndex()).isEqualTo(2);
+        verify(reviewService).addReviews(argThat(reviews -> reviews.size() == 1 && reviews.get(0).getBookId() == 1));
+        verify(reviewService, never()).addReviews(argThat(reviews -> reviews.size() == 1 && reviews.get(0).getBookId() == 2));
+    }
+
+    @Test
+    public void testFailedBatchWhoseRecordsAllSucceedAloneIsStored() {
+        // given
+        doThrow(new DataIntegrityViolationException("batch"))
+                .when(reviewService).addReviews(argThat(reviews -> reviews.size() > 1));
+
+        // when
+        listener.onReviews(List.of(review(1), review(2)));
+
+        // then
+        verify(reviewService, times(2)).addReviews(argThat(reviews -> reviews.size() == 1));
+    }
+
+    private static String review(int bookId) {
+        return "{\"bookId\":" + bookId + ",\"userId\":1,\"rating\":5}";
+    }
+}
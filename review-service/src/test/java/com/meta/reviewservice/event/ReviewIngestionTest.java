@@ -0,0 +1,133 @@
+package com.meta.reviewservice.event;
+
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.repository.BookRatingSummaryRepository;
+import com.meta.reviewservice.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingestion;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "eureka.client.enabled=false",
+        "book.events.enabled=false",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        // the ranking topology locks its Kafka Streams state directory, and the application test's
+        // cached context still holds the default one
+        "spring.kafka.streams.state-dir=${java.io.tmpdir}/review-ingestion-test-${random.uuid}"
+})
+@EmbeddedKafka(partitions = 1, topics = "review-ingestion")
+@AutoConfigureMockMvc
+public class ReviewIngestionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private BookRatingSummaryRepository ratingSummaryRepository;
+
+    @Test
+    public void testAcceptedReviewsAreBatchInserted() throws Exception {
+        for (int rating = 1; rating <= 5; rating++) {
+            mockMvc.perform(post("/api/v1/reviews/async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"bookId\":3,\"userId\":1,\"rating\":" + rating + ",\"comment\":\"review " + rating + "\"}"))
+                    .andExpect(status().isAccepted());
+        }
+
+        List<Review> reviews = waitForReviews(3L, 5);
+
+        assertThat(reviews).extracting(Review::getComment)
+                .containsExactlyInAnyOrder("review 1", "review 2", "review 3", "review 4", "review 5");
+        assertThat(ratingSummaryRepository.findById(3)).hasValueSatisfying(summary -> {
+            assertThat(summary.getReviewCount()).isEqualTo(5);
+            assertThat(summary.getMean()).isEqualTo(3.0);
+        });
+    }
+
+    @Test
+    public void testInvalidReviewIsRejectedBeforeItIsAccepted() throws Exception {
+        mockMvc.perform(post("/api/v1/reviews/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookId\":3,\"rating\":9}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.rating").exists())
+                .andExpect(jsonPath("$.userId").exists());
+    }
+
+    @Test
+    public void testBulkImportReportsRejectedRowsAndExportStreamsStoredReviews() throws Exception {
+        String csv = """
+                userId,bookId,rating,comment
+                1,8,5,"Loved it, twice"
+                1,8,0,
+                2,8,4,Solid
+                """;
+
+        mockMvc.perform(post("/api/v1/reviews/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+
+        MvcResult export = mockMvc.perform(get("/api/v1/reviews/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String exported = mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(exported).startsWith("reviewId,userId,bookId,rating,comment\n")
+                .contains(",1,8,5,\"Loved it, twice\"\n")
+                .contains(",2,8,4,\"Solid\"\n");
+        assertThat(ratingSummaryRepository.findById(8)).hasValueSatisfying(summary ->
+                assertThat(summary.getReviewCount()).isEqualTo(2));
+    }
+
+    @Test
+    public void testExportWritesMissingValuesAsEmptyFields() throws Exception {
+        Review review = new Review();
+        review.setBookId(9);
+        reviewRepository.save(review);
+
+        MvcResult export = mockMvc.perform(get("/api/v1/reviews/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String exported = mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(exported).contains("\n" + review.getReviewId() + ",,9,,\n");
+    }
+
+    private List<Review> waitForReviews(Long bookId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        List<Review> reviews = reviewRepository.findByBookId(bookId);
+        while (reviews.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            reviews = reviewRepository.findByBookId(bookId);
+        }
+        return reviews;
+    }
+}
@@ -0,0 +1,109 @@
+package com.meta.reviewservice.repository;
+
+import com.meta.reviewservice.entity.BookRatingSummary;
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.service.FirstReviewConcurrencyTest;
+import com.meta.reviewservice.service.ReviewService;
+import com.meta.reviewservice.service.impl.ReviewServiceImpl;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the JPA slice on the postgres profile against an embedded PostgreSQL, so the Flyway
+ * migrations run and Hibernate validates the entities against the schema they produce.
+ */
+@DataJpaTest
+@ActiveProfiles("postgres")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReviewServiceImpl.class)
+public class PostgresMigrationTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private BookRatingSummaryRepository bookRatingSummaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    public void testSampleReviewsAndSummariesAreMigrated() {
+        // when
+        List<Review> reviews = reviewRepository.findPageByBookIdAfter(1, 0, Limit.of(10));
+
+        // then
+        assertThat(reviews).extracting(Review::getComment).containsExactly("Great book!");
+        assertThat(bookRatingSummaryRepository.findById(1)).get()
+                .extracting(BookRatingSummary::getMean).isEqualTo(5.0);
+    }
+
+    @Test
+    public void testPageLookupUsesReviewIndex() {
+        // given
+        jdbcTemplate.execute("SET enable_seqscan = off");
+
+        // when
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM Review WHERE user_id = 1 AND review_id > 0 ORDER BY review_id LIMIT 20",
+                String.class));
+
+        // then
+        assertThat(plan).contains("idx_review_user_id");
+    }
+
+    @Test
+    public void testConnectionsUseConfiguredDriverProperties() {
+        // when
+        String applicationName = jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+
+        // then
+        assertThat(applicationName).isEqualTo("review-service");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void testConcurrentFirstReviewsShareOneSummary() throws Exception {
+        // when
+        FirstReviewConcurrencyTest.writeConcurrently(reviewService, 900);
+
+        // then
+        assertThat(bookRatingSummaryRepository.findById(900)).get()
+                .extracting(BookRatingSummary::getReviewCount).isEqualTo((long) FirstReviewConcurrencyTest.WRITERS);
+    }
+}
@@ -0,0 +1,73 @@
+package com.meta.reviewservice.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the shared H2 schema from book-service's own scripts, V1 and the review indexes of V4,
+ * instead of from the entity mappings, and checks that the statements the repository actually
+ * generates read through those indexes.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.meta.reviewservice.repository.ReviewIndexTest$CapturingInspector"
+})
+@Sql({
+        "file:../book-service/src/main/resources/db/migration/h2/V1__create_tables.sql",
+        "file:../book-service/src/main/resources/db/migration/h2/V4__create_review_indexes.sql"
+})
+public class ReviewIndexTest {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void init() {
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    public void testPagedQueriesReadThroughIndexes() {
+        // when
+        String byUser = explain(() -> reviewRepository.findPageByUserIdAfter(3, 0, Limit.of(21)), 3, 0, 21);
+        String byBook = explain(() -> reviewRepository.findPageByBookIdAfter(3, 0, Limit.of(21)), 3, 0, 21);
+        String all = explain(() -> reviewRepository.findPageAfter(0, Limit.of(21)), 0, 21);
+
+        // then both the filter column and the cursor are resolved by the index
+        assertThat(byUser).contains("IDX_REVIEW_USER_ID: USER_ID = ").contains("REVIEW_ID > ");
+        assertThat(byBook).contains("IDX_REVIEW_BOOK_ID: BOOK_ID = ").contains("REVIEW_ID > ");
+        assertThat(all).contains("PRIMARY_KEY").contains("REVIEW_ID > ").doesNotContain("tableScan");
+    }
+
+    // runs the query, then explains the SQL Hibernate sent for it with the same arguments
+    private String explain(Runnable query, Object... args) {
+        CapturingInspector.STATEMENTS.clear();
+        query.run();
+        assertThat(CapturingInspector.STATEMENTS).hasSize(1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + CapturingInspector.STATEMENTS.get(0), String.class, args);
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 
@@ -35,4 +36,30 @@ public class ReviewRepositoryTest {
         assertThat(foundReviews).isNotEmpty();
         assertThat(foundReviews.get(0).getComment()).isEqualTo(review.getComment());
     }
+
+    @Test
+    public void testFindPageByBookIdAfterSeeksPastCursor() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(review(i % 2 + 1, 7));
+        }
+        entityManager.flush();
+        List<Review> firstPage = reviewRepository.findPageByBookIdAfter(7, 0, Limit.of(3));
+
+        // when
+        List<Review> secondPage = reviewRepository.findPageByBookIdAfter(7, firstPage.get(2).getReviewId(), Limit.of(3));
+
+        // then
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.get(0).getReviewId()).isGreaterThan(firstPage.get(2).getReviewId());
+    }
+
+    private static Review review(int userId, int bookId) {
+        Review review = new Review();
+        review.setUserId(userId);
+        review.setBookId(bookId);
+        review.setRating(5);
+        return review;
+    }
 }
@@ -0,0 +1,173 @@
+package com.meta.reviewservice.service;
+
+import com.meta.reviewservice.cache.BookCache;
+import com.meta.reviewservice.client.BookLookupCoalescer;
+import com.meta.reviewservice.client.UserServiceClient;
+import com.meta.reviewservice.converter.ReviewMapper;
+import com.meta.reviewservice.converter.ReviewPager;
+import com.meta.reviewservice.dto.BookDetailDto;
+import com.meta.reviewservice.dto.BookDto;
+import com.meta.reviewservice.dto.UserDto;
+import com.meta.reviewservice.entity.BookRatingSummary;
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.exception.EntityNotFoundException;
+import com.meta.reviewservice.service.impl.BookDetailServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BookDetailServiceImplTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(500);
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private BookCache bookCache;
+
+    @Mock
+    private BookLookupCoalescer bookLookupCoalescer;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private ReviewPager reviewPager;
+
+    private ExecutorService executor;
+
+    private BookDetailServiceImpl bookDetailService;
+
+    @BeforeEach
+    public void init() {
+        MockitoAnnotations.openMocks(this);
+        reviewPager = new ReviewPager(ReviewMapper.INSTANCE);
+        ReflectionTestUtils.setField(reviewPager, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(reviewPager, "maxPageSize", 100);
+        executor = Executors.newFixedThreadPool(4);
+        bookDetailService = new BookDetailServiceImpl(reviewService, ReviewMapper.INSTANCE, reviewPager, bookCache,
+                bookLookupCoalescer, userServiceClient, TIMEOUT, TIMEOUT, executor);
+
+        when(reviewService.getRatingSummary(7L)).thenReturn(new BookRatingSummary(7));
+        when(reviewService.getReviewsByBookId(eq(7L), eq(0), anyInt()))
+                .thenReturn(List.of(review(1, 10), review(2, 11), review(3, 10)));
+    }
+
+    @AfterEach
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRemoteCallsRunConcurrently() {
+        when(bookCache.get(eq(7L), any())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return book(7L);
+        });
+        when(userServiceClient.getUsersByIds(any())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return List.of(user(10L), user(11L));
+        });
+
+        long start = System.nanoTime();
+        BookDetailDto detail = bookDetailService.getBookDetail(7L, null);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(detail.getBook().getTitle()).isEqualTo("Book 7");
+        assertThat(detail.getReviews()).hasSize(3);
+        assertThat(detail.getReviewers()).containsOnlyKeys(10L, 11L);
+        assertThat(detail.getUnavailable()).isEmpty();
+        assertThat(elapsedMillis).isLessThan(550);
+        // one batched lookup for the distinct reviewers
+        verify(userServiceClient, times(1)).getUsersByIds(List.of(10L, 11L));
+    }
+
+    @Test
+    public void testLateAndFailedPartsAreLeftOut() {
+        when(bookCache.get(eq(7L), any())).thenAnswer(invocation -> {
+            Thread.sleep(TIMEOUT.toMillis() * 3);
+            return book(7L);
+        });
+        when(userServiceClient.getUsersByIds(any())).thenThrow(new IllegalStateException("user-service down"));
+
+        long start = System.nanoTime();
+        BookDetailDto detail = bookDetailService.getBookDetail(7L, 2);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(detail.getBook()).isNull();
+        assertThat(detail.getReviewers()).isEmpty();
+        assertThat(detail.getUnavailable()).containsExactlyInAnyOrder("book", "reviewers");
+        assertThat(detail.getReviews()).hasSize(2);
+        assertThat(detail.getNextReviewsCursor()).isNotNull();
+        assertThat(detail.getRating().getBookId()).isEqualTo(7);
+        assertThat(elapsedMillis).isLessThan(TIMEOUT.toMillis() * 2);
+    }
+
+    @Test
+    public void testRejectedRemotePartsAreLeftOutAtOnce() {
+        // given an executor with no room left
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("book-detail executor is full");
+        };
+        BookDetailServiceImpl service = new BookDetailServiceImpl(reviewService, ReviewMapper.INSTANCE, reviewPager,
+                bookCache, bookLookupCoalescer, userServiceClient, TIMEOUT, TIMEOUT, saturated);
+
+        // when
+        long start = System.nanoTime();
+        BookDetailDto detail = service.getBookDetail(7L, null);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then the local reads still run, the remote ones are reported unavailable without being called
+        assertThat(detail.getReviews()).hasSize(3);
+        assertThat(detail.getRating().getBookId()).isEqualTo(7);
+        assertThat(detail.getUnavailable()).containsExactlyInAnyOrder("book", "reviewers");
+        assertThat(elapsedMillis).isLessThan(TIMEOUT.toMillis());
+        verifyNoInteractions(bookCache, userServiceClient);
+    }
+
+    @Test
+    public void testUnknownBookIsNotFound() {
+        when(bookCache.get(eq(7L), any())).thenReturn(null);
+
+        assertThatThrownBy(() -> bookDetailService.getBookDetail(7L, null)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private static Review review(int reviewId, int userId) {
+        Review review = new Review();
+        review.setReviewId(reviewId);
+        review.setUserId(userId);
+        review.setBookId(7);
+        review.setRating(4);
+        return review;
+    }
+
+    private static BookDto book(Long id) {
+        BookDto book = new BookDto();
+        book.setId(id);
+        book.setTitle("Book " + id);
+        return book;
+    }
+
+    private static UserDto user(Long id) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setName("User " + id);
+        return user;
+    }
+}
@@ -0,0 +1,74 @@
+package com.meta.reviewservice.service;
+
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.repository.BookRatingSummaryRepository;
+import com.meta.reviewservice.service.impl.ReviewServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several reviews of a book that has none yet, written at the same moment in separate
+ * transactions, must all be counted in the one summary row.
+ */
+@DataJpaTest
+@Import(ReviewServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class FirstReviewConcurrencyTest {
+    public static final int WRITERS = 8;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private BookRatingSummaryRepository ratingSummaryRepository;
+
+    @Test
+    public void testConcurrentFirstReviewsShareOneSummary() throws Exception {
+        for (int bookId = 500; bookId < 510; bookId++) {
+            // when
+            writeConcurrently(reviewService, bookId);
+
+            // then
+            assertThat(ratingSummaryRepository.findById(bookId)).hasValueSatisfying(summary ->
+                    assertThat(summary.getReviewCount()).isEqualTo(WRITERS));
+        }
+    }
+
+    // fails if any writer fails
+    public static void writeConcurrently(ReviewService reviewService, int bookId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Review>> writes = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                Review review = new Review();
+                review.setUserId(i + 1);
+                review.setBookId(bookId);
+                review.setRating(4);
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    return reviewService.addReview(review);
+                }));
+            }
+            start.countDown();
+            for (Future<Review> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
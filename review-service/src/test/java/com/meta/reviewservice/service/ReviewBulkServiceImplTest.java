@@ -0,0 +1,133 @@
+package com.meta.reviewservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.converter.ReviewMapper;
+import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.payload.ReviewFileFormat;
+import com.meta.reviewservice.payload.ReviewImportReport;
+import com.meta.reviewservice.service.impl.ReviewBulkServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class ReviewBulkServiceImplTest {
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReviewBulkServiceImpl bulkService;
+
+    @BeforeEach
+    public void init() {
+        MockitoAnnotations.openMocks(this);
+        bulkService = new ReviewBulkServiceImpl(reviewService, ReviewMapper.INSTANCE, new ObjectMapper(), jdbcTemplate);
+        ReflectionTestUtils.setField(bulkService, "batchSize", 2);
+        ReflectionTestUtils.setField(bulkService, "maxReportedErrors", 10);
+    }
+
+    @Test
+    public void testImportNdjsonInsertsValidRowsInBatchesAndReportsInvalidOnes() throws IOException {
+        String upload = """
+                {"userId":1,"bookId":1,"rating":5,"comment":"a"}
+                {"userId":1,"bookId":2,"rating":9}
+                not json
+                {"userId":2,"bookId":1,"rating":4}
+
+                {"userId":3,"bookId":1,"rating":3}
+                """;
+
+        ReviewImportReport report = bulkService.importReviews(stream(upload), ReviewFileFormat.NDJSON);
+
+        assertThat(report.getAccepted()).isEqualTo(3);
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ReviewImportReport.RowError::getLine).containsExactly(2L, 3L);
+        assertThat(report.getErrors().get(0).getMessage()).contains("rating");
+        ArgumentCaptor<List<Review>> batches = ArgumentCaptor.forClass(List.class);
+        verify(reviewService, times(2)).addReviews(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    public void testImportCsvReadsColumnsByHeader() throws IOException {
+        String upload = """
+                rating,bookId,userId,comment
+                5,7,1,"Great, ""really"" great"
+                x,7,2,
+                """;
+
+        ReviewImportReport report = bulkService.importReviews(stream(upload), ReviewFileFormat.CSV);
+
+        assertThat(report.getAccepted()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(3);
+            assertThat(error.getMessage()).isEqualTo("rating is not a number");
+        });
+        verify(reviewService).addReviews(argThat(reviews -> reviews.size() == 1
+                && reviews.get(0).getBookId() == 7
+                && reviews.get(0).getRating() == 5
+                && reviews.get(0).getComment().equals("Great, \"really\" great")));
+    }
+
+    @Test
+    public void testImportCsvRejectsValuesThatDoNotFitTheColumns() throws IOException {
+        String upload = """
+                userId,bookId,rating,comment
+                1,7,4294967300,wraps to 4
+                4294967297,7,5,wraps to user 1
+                1,2147483648,5,wraps to a negative book
+                1,7,5,fits
+                """;
+
+        ReviewImportReport report = bulkService.importReviews(stream(upload), ReviewFileFormat.CSV);
+
+        assertThat(report.getAccepted()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(ReviewImportReport.RowError::getLine, ReviewImportReport.RowError::getMessage)
+                .containsExactly(
+                        tuple(2L, "rating is out of range"),
+                        tuple(3L, "userId is out of range"),
+                        tuple(4L, "bookId is out of range"));
+        verify(reviewService).addReviews(argThat(reviews -> reviews.size() == 1 && reviews.get(0).getComment().equals("fits")));
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedRowByRow() throws IOException {
+        String upload = """
+                {"userId":1,"bookId":1,"rating":5}
+                {"userId":1,"bookId":404,"rating":5}
+                """;
+        doThrow(new DataIntegrityViolationException("batch")).when(reviewService).addReviews(argThat(reviews -> reviews.size() == 2));
+        doThrow(new DataIntegrityViolationException("book 404")).when(reviewService)
+                .addReviews(argThat(reviews -> reviews.size() == 1 && reviews.get(0).getBookId() == 404));
+
+        ReviewImportReport report = bulkService.importReviews(stream(upload), ReviewFileFormat.NDJSON);
+
+        assertThat(report.getAccepted()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(2);
+            assertThat(error.getMessage()).contains("book 404");
+        });
+        verify(reviewService, times(3)).addReviews(anyList());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,9 @@
 package com.meta.reviewservice.service;
 
+import com.meta.reviewservice.dto.ReviewEventDto;
+import com.meta.reviewservice.entity.BookRatingSummary;
 import com.meta.reviewservice.entity.Review;
+import com.meta.reviewservice.repository.BookRatingSummaryRepository;
 import com.meta.reviewservice.repository.ReviewRepository;
 import com.meta.reviewservice.service.impl.ReviewServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +11,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class ReviewServiceImplTest {
@@ -20,9 +32,22 @@ public class ReviewServiceImplTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private BookRatingSummaryRepository ratingSummaryRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookRatingSummary summary;
+
     @BeforeEach
     public void init() {
         MockitoAnnotations.openMocks(this);
+        summary = new BookRatingSummary(7);
+        when(ratingSummaryRepository.findForUpdate(7)).thenReturn(Optional.of(summary));
     }
 
     @Test
@@ -38,5 +63,78 @@ public class ReviewServiceImplTest {
 
         assertEquals(created.getComment(), review.getComment());
         verify(reviewRepository, times(1)).save(review);
+        verify(ratingSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    public void testAddReviewUpdatesRatingSummary() {
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        reviewService.addReview(review(1, 4));
+        reviewService.addReview(review(2, 5));
+
+        assertEquals(2, summary.getReviewCount());
+        assertEquals(4.5, summary.getMean());
+        assertArrayEquals(new long[]{0, 0, 0, 1, 1}, summary.getHistogram());
+        verify(ratingSummaryRepository, times(2)).save(summary);
+    }
+
+    @Test
+    public void testAddReviewsInsertsOneBatchAndUpdatesSummaryOncePerBook() {
+        List<Review> reviews = List.of(review(1, 4), review(2, 2), review(3, 5));
+
+        reviewService.addReviews(reviews);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(reviews), eq(3), any(ParameterizedPreparedStatementSetter.class));
+        verify(ratingSummaryRepository, times(1)).save(summary);
+        assertEquals(3, summary.getReviewCount());
+        assertEquals(11, summary.getRatingSum());
+        verify(eventPublisher, times(3)).publishEvent(any(ReviewEventDto.class));
+    }
+
+    @Test
+    public void testUpdateReviewMovesRating() {
+        summary.apply(5, 1);
+        Review updated = review(1, 2);
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(review(1, 5)));
+        when(reviewRepository.save(updated)).thenReturn(updated);
+
+        reviewService.updateReview(updated);
+
+        assertEquals(1, summary.getReviewCount());
+        assertEquals(2, summary.getRatingSum());
+        assertArrayEquals(new long[]{0, 1, 0, 0, 0}, summary.getHistogram());
+    }
+
+    @Test
+    public void testDeleteReviewRemovesRating() {
+        summary.apply(3, 1);
+        summary.apply(5, 1);
+        Review review = review(1, 3);
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+
+        reviewService.deleteReview(1L);
+
+        assertEquals(1, summary.getReviewCount());
+        assertEquals(5.0, summary.getMean());
+        verify(reviewRepository).delete(review);
+    }
+
+    @Test
+    public void testRatingSummaryForBookWithoutReviews() {
+        when(ratingSummaryRepository.findById(8)).thenReturn(Optional.empty());
+
+        BookRatingSummary empty = reviewService.getRatingSummary(8L);
+
+        assertEquals(0, empty.getReviewCount());
+        assertEquals(0.0, empty.getMean());
+    }
+
+    private static Review review(int reviewId, int rating) {
+        Review review = new Review();
+        review.setReviewId(reviewId);
+        review.setBookId(7);
+        review.setRating(rating);
+        return review;
     }
 }
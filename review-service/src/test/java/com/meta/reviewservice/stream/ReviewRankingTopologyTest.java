@@ -0,0 +1,116 @@
+package com.meta.reviewservice.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meta.reviewservice.dto.RatingAggregateDto;
+import com.meta.reviewservice.dto.TopRatedBookDto;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.WindowStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+public class ReviewRankingTopologyTest {
+    private static final Instant START = Instant.parse("2024-03-04T00:00:00Z");
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, String> reviews;
+
+    @BeforeEach
+    public void init() {
+        StreamsBuilder builder = new StreamsBuilder();
+        ReviewRankingTopology.build(builder, "review-events", new ObjectMapper());
+        Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "review-rankings-test");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:1234");
+        driver = new TopologyTestDriver(builder.build(), properties, START);
+        reviews = driver.createInputTopic("review-events", new StringSerializer(), new StringSerializer());
+    }
+
+    @AfterEach
+    public void close() {
+        driver.close();
+    }
+
+    @Test
+    public void testRanksBooksByMeanRatingOfTheLastWeek() {
+        // given
+        send(1, 5, START);
+        send(1, 4, START.plus(Duration.ofDays(1)));
+        send(1, 5, START.plus(Duration.ofDays(2)));
+        send(2, 3, START.plus(Duration.ofDays(1)));
+        send(2, 3, START.plus(Duration.ofDays(2)));
+        send(2, 4, START.plus(Duration.ofDays(3)));
+        send(3, 5, START.plus(Duration.ofDays(3)));
+
+        // when
+        List<TopRatedBookDto> topRated = TopRatedBooksService.topRated(store(), START.plus(Duration.ofDays(4)), 3, 10);
+
+        // then
+        assertThat(topRated).extracting(TopRatedBookDto::getBookId).containsExactly(1L, 2L);
+        assertThat(topRated.get(0).getCount()).isEqualTo(3);
+        assertThat(topRated.get(0).getMean()).isCloseTo(14 / 3.0, offset(1e-9));
+    }
+
+    @Test
+    public void testReviewsOlderThanAWeekDropOut() {
+        // given
+        send(1, 5, START);
+        send(1, 5, START.plus(Duration.ofDays(1)));
+        send(1, 5, START.plus(Duration.ofDays(2)));
+        send(2, 4, START.plus(Duration.ofDays(8)));
+        send(2, 4, START.plus(Duration.ofDays(8)));
+        send(2, 4, START.plus(Duration.ofDays(9)));
+
+        // when
+        List<TopRatedBookDto> topRated = TopRatedBooksService.topRated(store(), START.plus(Duration.ofDays(9)), 3, 10);
+
+        // then
+        assertThat(topRated).extracting(TopRatedBookDto::getBookId).containsExactly(2L);
+    }
+
+    @Test
+    public void testUnreadableEventsAreSkipped() {
+        // given
+        reviews.pipeInput("1", "not json", START);
+        send(1, 2, START);
+
+        // when
+        List<TopRatedBookDto> topRated = TopRatedBooksService.topRated(store(), START.plus(Duration.ofHours(1)), 1, 10);
+
+        // then
+        assertThat(topRated).singleElement().satisfies(book -> assertThat(book.getCount()).isEqualTo(1));
+    }
+
+    @Test
+    public void testEventsAreAggregatedWithoutRepartitioning() {
+        // given
+        StreamsBuilder builder = new StreamsBuilder();
+        ReviewRankingTopology.build(builder, "review-events", new ObjectMapper());
+
+        // when
+        String topology = builder.build().describe().toString();
+
+        // then
+        assertThat(topology).doesNotContain("repartition");
+    }
+
+    private void send(long bookId, int rating, Instant timestamp) {
+        reviews.pipeInput(String.valueOf(bookId), "{\"bookId\":" + bookId + ",\"rating\":" + rating + "}", timestamp);
+    }
+
+    private WindowStore<String, RatingAggregateDto> store() {
+        return driver.getWindowStore(ReviewRankingTopology.WEEKLY_RATINGS_STORE);
+    }
+}
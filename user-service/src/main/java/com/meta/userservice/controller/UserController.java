@@ -1,13 +1,18 @@
 package com.meta.userservice.controller;
 import com.meta.userservice.entity.User;
+import com.meta.userservice.exception.BlogAPIException;
+import com.meta.userservice.payload.UserSummary;
 import com.meta.userservice.service.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.springframework.http.HttpStatus.CREATED;
 
@@ -16,27 +21,52 @@ import static org.springframework.http.HttpStatus.CREATED;
 @Slf4j
 public class UserController {
 
+    private static final int MAX_IDS = 100;
+
     private final UserService userService;
+    // the read endpoints below log one call in this many
+    private final int logSampleRate;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, @Value("${request-log.sample-rate:1}") int logSampleRate) {
         this.userService = userService;
+        this.logSampleRate = Math.max(1, logSampleRate);
     }
 
 
     @GetMapping("")
     public List<User> getUsers()
     {
-        log.info("process=get-users");
+        if (sampled()) {
+            log.info("process=get-users");
+        }
         return userService.getAllUsers();
     }
 
 
+    // Look up several users in one call, e.g. the authors of a page of reviews; only public fields are returned
+    @GetMapping(value = "", params = "ids")
+    public List<UserSummary> getUsersByIds(@RequestParam
+                                    List<Long> ids)
+    {
+        if (sampled()) {
+            log.info("process=get-users-by-ids, count={}", ids.size());
+        }
+        if (ids.size() > MAX_IDS)
+        {
+            throw new BlogAPIException(HttpStatus.BAD_REQUEST, "At most " + MAX_IDS + " ids can be requested at once");
+        }
+        return userService.getUsersByIds(ids);
+    }
+
+
     @GetMapping("/{id}")
     public ResponseEntity<User> getUser(@PathVariable
                                         Long id)
     {
-        log.info("process=get-user, user_id={}", id);
+        if (sampled()) {
+            log.info("process=get-user, user_id={}", id);
+        }
         Optional<User> user = userService.getUserById(id);
         return user.map(u -> ResponseEntity.ok(u)).orElse(ResponseEntity.notFound().build());
     }
@@ -71,4 +101,11 @@ public class UserController {
         userService.deleteUser(id);
     }
 
+
+    // random rather than counted, so concurrent lookups do not contend on a shared counter
+    private boolean sampled()
+    {
+        return log.isInfoEnabled()
+                && (logSampleRate == 1 || log.isDebugEnabled() || ThreadLocalRandom.current().nextInt(logSampleRate) == 0);
+    }
 }
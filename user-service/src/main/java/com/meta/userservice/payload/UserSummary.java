@@ -0,0 +1,16 @@
+package com.meta.userservice.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The public part of a user, as returned by the batch lookup; credentials, email and roles
+ * stay behind.
+ */
+@Getter
+@AllArgsConstructor
+public class UserSummary {
+    private Long id;
+    private String name;
+    private String username;
+}
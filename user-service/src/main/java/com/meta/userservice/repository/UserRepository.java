@@ -1,8 +1,13 @@
 package com.meta.userservice.repository;
 
 import com.meta.userservice.entity.User;
+import com.meta.userservice.payload.UserSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -16,4 +21,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
+
+    // selects the three columns only, so the eagerly fetched roles are never loaded
+    @Query("select new com.meta.userservice.payload.UserSummary(u.id, u.name, u.username) from User u where u.id in :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
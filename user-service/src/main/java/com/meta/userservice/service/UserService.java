@@ -8,6 +8,7 @@
 package com.meta.userservice.service;
 
 import com.meta.userservice.entity.User;
+import com.meta.userservice.payload.UserSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +24,7 @@ public interface UserService
 {
     Optional<User> getUserById(Long id);
     List<User> getAllUsers();
+    List<UserSummary> getUsersByIds(List<Long> ids);
     User createUser(User user);
     User updateUser(User user);
     void deleteUser(Long userId);
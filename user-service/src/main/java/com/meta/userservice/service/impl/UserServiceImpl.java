@@ -8,6 +8,7 @@
 package com.meta.userservice.service.impl;
 
 import com.meta.userservice.entity.User;
+import com.meta.userservice.payload.UserSummary;
 import com.meta.userservice.repository.UserRepository;
 import com.meta.userservice.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +47,12 @@ public class UserServiceImpl implements UserService
     }
 
 
+    public List<UserSummary> getUsersByIds(List<Long> ids)
+    {
+        return userRepository.findSummariesByIdIn(ids);
+    }
+
+
     public User createUser(User user)
     {
         return userRepository.save(user);
@@ -0,0 +1,47 @@
+package com.meta.userservice.repository;
+
+import com.meta.userservice.entity.User;
+import com.meta.userservice.payload.UserSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+public class UserRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void testFindSummariesReturnsOnlyRequestedUsers() {
+        // given
+        User ada = entityManager.persist(user("ada"));
+        User bob = entityManager.persist(user("bob"));
+        entityManager.persist(user("eve"));
+        entityManager.flush();
+
+        // when
+        List<UserSummary> summaries = userRepository.findSummariesByIdIn(List.of(ada.getId(), bob.getId(), -1L));
+
+        // then
+        assertThat(summaries).extracting(UserSummary::getId, UserSummary::getUsername)
+                .containsExactlyInAnyOrder(
+                        tuple(ada.getId(), "ada"),
+                        tuple(bob.getId(), "bob"));
+        assertThat(summaries).extracting(UserSummary::getName).containsOnly("Reader");
+    }
+
+    private static User user(String username) {
+        return new User(null, "Reader", username, username + "@example.com", "{noop}secret", true, Set.of());
+    }
+}